@@ -0,0 +1,60 @@
+package com.mygame.benchmarks;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+import com.mygame.common.EntityFactory;
+import com.mygame.model.entities.GameEntity;
+import com.mygame.model.maps.GameMap;
+import com.mygame.model.maps.MapLoader;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mesure la création des entités depuis la carte ({@link EntityFactory#loadEntitiesFromMap})
+ * et la boucle par frame sur {@link EntityFactory#getEntities()} effectuée par le rendu du niveau,
+ * sans l'appel de dessin lui-même.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EntityBenchmark {
+
+    private static final float TIME_STEP = 1f / 60f;
+
+    @Param({"maps/level1.tmx", "maps/level2.tmx", "maps/level3.tmx"})
+    public String mapPath;
+
+    private MapLoader mapLoader;
+    private GameMap gameMap;
+    private EntityFactory entityFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        HeadlessGdx.init();
+        mapLoader = MapLoader.headless();
+        gameMap = new GameMap(mapLoader.loadMap(mapPath), new World(new Vector2(0, -15f), true));
+        entityFactory = EntityFactory.createHeadless();
+        entityFactory.loadEntitiesFromMap(gameMap);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        gameMap.dispose();
+    }
+
+    @Benchmark
+    public Array<GameEntity> loadEntitiesFromMap() {
+        return entityFactory.loadEntitiesFromMap(gameMap);
+    }
+
+    @Benchmark
+    public void entityFrameLoop() {
+        for (GameEntity entity : entityFactory.getEntities()) {
+            entity.savePreviousTransform();
+            entity.updatePhysics(TIME_STEP);
+            entity.updateSpritePosition(0.5f);
+        }
+    }
+}
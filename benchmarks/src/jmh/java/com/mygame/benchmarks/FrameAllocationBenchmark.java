@@ -0,0 +1,115 @@
+package com.mygame.benchmarks;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.viewport.ScreenViewport;
+import com.mygame.common.EntityFactory;
+import com.mygame.common.SoundFactory;
+import com.mygame.model.LevelSimulation;
+import com.mygame.model.entities.GameEntity;
+import com.mygame.model.entities.Player;
+import com.mygame.model.maps.MapLoader;
+import com.mygame.view.screen.HUD.GameHUD;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mesure les allocations de la boucle de jeu : pas physique du niveau, positionnement des sprites
+ * puis mise à jour du HUD, sur {@value #FRAMES} frames du niveau 2.
+ * <p>
+ * Le HUD est créé sur le contexte graphique factice de {@link HeadlessGdx#initGraphics()}. Le score du joueur
+ * change toutes les {@value #FRAMES_PER_COIN} frames et le temps affiché chaque seconde de jeu,
+ * afin que les textes des labels soient bien reconstruits pendant la mesure.
+ * </p>
+ * <p>
+ * À la fin de chaque itération, les {@value #FRAMES} frames sont rejouées en mesurant les octets alloués
+ * par le thread ({@code ThreadMXBean.getThreadAllocatedBytes}). Le code est alors compilé par le JIT : si la dernière
+ * mesure dépasse {@value #MAX_ALLOCATED_BYTES} octets (marge pour la mesure elle-même), le benchmark échoue.
+ * Le profileur GC de JMH donne en plus {@code gc.alloc.rate.norm}, qui doit rester proche de 0 octet par frame.
+ * Exemple : {@code ./gradlew :benchmarks:jmh -Pjmh.includes=FrameAllocation -Pjmh.profilers=gc}
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FrameAllocationBenchmark {
+
+    private static final int FRAMES = 10_000;
+    private static final int FRAMES_PER_COIN = 30;        // Une pièce ramassée toutes les demi-secondes de jeu
+    private static final long MAX_ALLOCATED_BYTES = 1024; // Allocations tolérées sur toutes les frames
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private LevelSimulation simulation;
+    private Player player;
+    private Texture texture;  // Texture blanche utilisée par les polices et l'icône du HUD
+    private BitmapFont font;
+    private Stage stage;
+    private GameHUD hud;
+    private long lastAllocatedBytes = -1; // Octets alloués lors de la dernière vérification
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        HeadlessGdx.initGraphics();
+        simulation = new LevelSimulation(new com.mygame.model.maps.Level("maps/level2.tmx", "level2"),
+            MapLoader.headless().loadMap("maps/level2.tmx"), EntityFactory.createHeadless(), SoundFactory.getInstance());
+        player = simulation.getEntityFactory().getPlayer();
+
+        Pixmap pixmap = new Pixmap(256, 256, Pixmap.Format.RGBA8888);
+        texture = new Texture(pixmap);
+        pixmap.dispose();
+        font = new BitmapFont(Gdx.files.classpath("com/badlogic/gdx/utils/lsans-15.fnt"), new TextureRegion(texture));
+        stage = new Stage(new ScreenViewport(), HeadlessGdx.stub(Batch.class)); // Le HUD n'est jamais dessiné
+        hud = new GameHUD(player, "level2", stage, font, font, texture);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        long threadId = Thread.currentThread().getId();
+        long before = THREADS.getThreadAllocatedBytes(threadId);
+        frameLoop();
+        lastAllocatedBytes = THREADS.getThreadAllocatedBytes(threadId) - before;
+        System.out.println("Octets alloués sur " + FRAMES + " frames : " + lastAllocatedBytes);
+        hud.dispose();
+        stage.dispose();
+        font.dispose();
+        texture.dispose();
+        simulation.dispose();
+    }
+
+    @TearDown(Level.Trial)
+    public void checkAllocations() {
+        if (lastAllocatedBytes > MAX_ALLOCATED_BYTES) {
+            throw new IllegalStateException("La boucle de jeu alloue de la mémoire : " + lastAllocatedBytes
+                + " octets sur " + FRAMES + " frames (tolérance : " + MAX_ALLOCATED_BYTES + " octets).");
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FRAMES)
+    public long frameLoop() {
+        for (int frame = 0; frame < FRAMES; frame++) {
+            simulation.step(LevelSimulation.TIME_STEP);
+
+            Array<GameEntity> entities = simulation.getEntityFactory().getEntities();
+            for (int i = 0; i < entities.size; i++) {
+                entities.get(i).updateSpritePosition(1f);
+            }
+
+            if (frame % FRAMES_PER_COIN == 0) {
+                player.setScore(player.getScore() + 1);
+            }
+            hud.update(LevelSimulation.TIME_STEP);
+        }
+        return simulation.getTickCount();
+    }
+}
@@ -0,0 +1,80 @@
+package com.mygame.benchmarks;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessFiles;
+import com.badlogic.gdx.backends.headless.mock.audio.MockAudio;
+import com.badlogic.gdx.backends.headless.mock.graphics.MockGraphics;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.physics.box2d.Box2D;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import com.mygame.common.SoundFactory;
+
+import java.lang.reflect.Proxy;
+
+/**
+ * Initialise le strict nécessaire de LibGDX pour les benchmarks : bibliothèques natives,
+ * accès aux fichiers et audio factice. Aucune fenêtre ni contexte OpenGL n'est créé.
+ */
+final class HeadlessGdx {
+
+    private static boolean initialized;         // Indique si l'initialisation a déjà été faite
+    private static boolean graphicsInitialized; // Indique si le contexte graphique factice a déjà été installé
+
+    private HeadlessGdx() {
+    }
+
+    /**
+     * Initialise LibGDX une seule fois par JVM.
+     */
+    static synchronized void init() {
+        if (initialized) {
+            return;
+        }
+        GdxNativesLoader.load();
+        Box2D.init();
+        Gdx.files = new HeadlessFiles();
+        Gdx.audio = new MockAudio();
+        SoundFactory.getInstance().loadSound("piece"); // Son joué lors des collectes
+        initialized = true;
+    }
+
+    /**
+     * Installe un contexte graphique factice : écran de taille nulle et OpenGL sans effet, dont chaque appel
+     * renvoie 0, {@code false} ou null. Les textures et polices peuvent alors être créées (sans être dessinées),
+     * par exemple pour mesurer la mise à jour du HUD.
+     */
+    static synchronized void initGraphics() {
+        init();
+        if (graphicsInitialized) {
+            return;
+        }
+        Gdx.graphics = new MockGraphics();
+        Gdx.gl = Gdx.gl20 = stub(GL20.class);
+        graphicsInitialized = true;
+    }
+
+    /**
+     * Crée une implémentation sans effet d'une interface : chaque méthode renvoie la valeur par défaut de son type.
+     *
+     * @param type L'interface à implémenter.
+     * @return L'implémentation factice.
+     */
+    static <T> T stub(Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Class<?> returnType = method.getReturnType();
+            if (returnType == boolean.class) {
+                return false;
+            }
+            if (returnType == float.class) {
+                return 0f;
+            }
+            if (returnType == long.class) {
+                return 0L;
+            }
+            if (returnType == int.class) {
+                return 0;
+            }
+            return null;
+        }));
+    }
+}
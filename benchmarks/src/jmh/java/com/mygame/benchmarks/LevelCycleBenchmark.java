@@ -0,0 +1,119 @@
+package com.mygame.benchmarks;
+
+import com.badlogic.gdx.physics.box2d.World;
+import com.mygame.common.EntityFactory;
+import com.mygame.common.SoundFactory;
+import com.mygame.model.LevelSimulation;
+import com.mygame.model.maps.LevelBlueprint;
+import com.mygame.model.maps.MapLoader;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Enchaîne {@value #CYCLES} changements de niveau (niveaux 1, 2 et 3) dans un monde physique réutilisé,
+ * comme le fait le jeu entre deux écrans de niveau.
+ * <p>
+ * Après chaque changement, le monde doit contenir exactement les corps et fixtures du niveau chargé :
+ * toute croissance (mémoire native de Box2D) interrompt le benchmark. De même, le tas Java utilisé après un GC
+ * est relevé au début de l'essai, après une première série de changements de niveau, puis à la fin de chaque
+ * itération : s'il a augmenté de plus de {@value #HEAP_TOLERANCE_BYTES} octets, le benchmark est interrompu.
+ * Avec {@code -Pjmh.profilers=gc}, {@code gc.alloc.rate.norm} donne le coût d'un changement de niveau.
+ * Exemple : {@code ./gradlew :benchmarks:jmh -Pjmh.includes=LevelCycle -Pjmh.profilers=gc}
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LevelCycleBenchmark {
+
+    private static final int CYCLES = 100;
+    private static final long HEAP_TOLERANCE_BYTES = 8L * 1024 * 1024; // Croissance du tas tolérée (bruit de JMH et du JIT)
+    private static final String[] MAPS = {"maps/level1.tmx", "maps/level2.tmx", "maps/level3.tmx"};
+
+    private LevelBlueprint[] blueprints;
+    private com.mygame.model.maps.Level[] levels;
+    private int[] bodyCounts;     // Nombre de corps de chaque niveau, relevé au premier chargement
+    private int[] fixtureCounts;  // Nombre de fixtures de chaque niveau, relevé au premier chargement
+    private EntityFactory entityFactory;
+    private World world;
+    private long heapBaseline;    // Tas utilisé après un GC, au début de l'essai
+    private long heapBefore;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        HeadlessGdx.init();
+        blueprints = new LevelBlueprint[MAPS.length];
+        levels = new com.mygame.model.maps.Level[MAPS.length];
+        bodyCounts = new int[MAPS.length];
+        fixtureCounts = new int[MAPS.length];
+        for (int i = 0; i < MAPS.length; i++) {
+            blueprints[i] = new LevelBlueprint(MAPS[i], MapLoader.headless().loadMap(MAPS[i]));
+            levels[i] = new com.mygame.model.maps.Level(MAPS[i], "level" + (i + 1));
+            bodyCounts[i] = -1;
+        }
+        entityFactory = EntityFactory.createHeadless();
+        world = LevelSimulation.createWorld();
+
+        // Une première série remplit les caches et pools, qui ne doivent plus grossir ensuite
+        cycleLevels();
+        heapBaseline = usedHeap();
+    }
+
+    @Setup(Level.Iteration)
+    public void measureHeapBefore() {
+        heapBefore = usedHeap();
+    }
+
+    @TearDown(Level.Iteration)
+    public void measureHeapAfter() {
+        long heapAfter = usedHeap();
+        System.out.println("Tas utilisé : " + heapBefore / 1024 + " Ko -> " + heapAfter / 1024 + " Ko (début de l'essai : "
+            + heapBaseline / 1024 + " Ko)");
+        if (heapAfter - heapBaseline > HEAP_TOLERANCE_BYTES) {
+            throw new IllegalStateException("Le tas Java grossit d'un changement de niveau à l'autre : " + heapAfter / 1024
+                + " Ko utilisés, au lieu de " + heapBaseline / 1024 + " Ko au début de l'essai (tolérance : "
+                + HEAP_TOLERANCE_BYTES / 1024 + " Ko).");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityFactory.clearEntities();
+        world.dispose();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CYCLES)
+    public int cycleLevels() {
+        for (int cycle = 0; cycle < CYCLES; cycle++) {
+            int index = cycle % MAPS.length;
+            LevelSimulation simulation = new LevelSimulation(levels[index], blueprints[index], entityFactory,
+                SoundFactory.getInstance(), world);
+            simulation.step(LevelSimulation.TIME_STEP);
+            checkWorldSize(index);
+            simulation.dispose();
+        }
+        return world.getBodyCount();
+    }
+
+    /**
+     * Vérifie que le monde contient autant de corps et de fixtures qu'au premier chargement du même niveau.
+     */
+    private void checkWorldSize(int index) {
+        if (bodyCounts[index] < 0) {
+            bodyCounts[index] = world.getBodyCount();
+            fixtureCounts[index] = world.getFixtureCount();
+        } else if (world.getBodyCount() != bodyCounts[index] || world.getFixtureCount() != fixtureCounts[index]) {
+            throw new IllegalStateException("Le monde physique grossit d'un niveau à l'autre : " + MAPS[index]
+                + " contient " + world.getBodyCount() + " corps et " + world.getFixtureCount() + " fixtures, au lieu de "
+                + bodyCounts[index] + " corps et " + fixtureCounts[index] + " fixtures.");
+        }
+    }
+
+    private static long usedHeap() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
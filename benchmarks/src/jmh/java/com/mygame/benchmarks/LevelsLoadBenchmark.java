@@ -0,0 +1,59 @@
+package com.mygame.benchmarks;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Array;
+import com.mygame.model.maps.MapLoader;
+import com.mygame.utils.JsonLoader;
+import com.mygame.validation.MapValidator;
+import com.mygame.validation.TmxStreamValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mesure la validation des niveaux au démarrage ({@link JsonLoader#loadLevels}) :
+ * lecture de levels.json, chargement et validation de chaque carte, puis chaînage des niveaux valides.
+ * La validation séquentielle est comparée à la validation en parallèle utilisée au démarrage du jeu,
+ * et la validation d'une carte chargée à la lecture directe du fichier .tmx.
+ * Un seul chargeur de carte sert à tout l'essai ; chaque carte chargée est libérée après sa validation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LevelsLoadBenchmark {
+
+    private MapLoader mapLoader; // Chargeur sans texture réutilisé par les benchmarks
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        HeadlessGdx.init();
+        mapLoader = MapLoader.headless();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        mapLoader.dispose();
+    }
+
+    @Benchmark
+    public Array<com.mygame.model.maps.Level> loadLevels() {
+        return JsonLoader.loadLevels("levels.json", mapLoader);
+    }
+
+    @Benchmark
+    public boolean validateLevel2Loaded() {
+        boolean valid = new MapValidator().validate(mapLoader.loadMap("maps/level2.tmx"));
+        mapLoader.dispose(); // Libère la carte validée
+        return valid;
+    }
+
+    @Benchmark
+    public boolean validateLevel2Stream() {
+        return new TmxStreamValidator().validate(Gdx.files.internal("maps/level2.tmx"));
+    }
+
+    @Benchmark
+    public Array<com.mygame.model.maps.Level> loadLevelsParallel() {
+        return JsonLoader.loadLevels("levels.json", Runtime.getRuntime().availableProcessors());
+    }
+}
@@ -0,0 +1,69 @@
+package com.mygame.benchmarks;
+
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.World;
+import com.mygame.model.maps.GameMap;
+import com.mygame.model.maps.MapLoader;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mesure la construction d'un {@link GameMap} (obstacles, bords, zone de mort et téléporteurs)
+ * pour chaque carte livrée, avec et sans fusion des tuiles.
+ * Le nombre de tuiles, de corps et de fixtures d'obstacles est affiché au début de chaque essai.
+ * Chaque carte lue par {@link #loadTmx()} est libérée avant la suivante, avec un seul chargeur par essai.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MapBuildBenchmark {
+
+    @Param({"maps/level1.tmx", "maps/level2.tmx", "maps/level3.tmx"})
+    public String mapPath;
+
+    @Param({"true", "false"})
+    public boolean mergeTiles;
+
+    private MapLoader mapLoader;
+    private TiledMap map;
+    private MapLoader tmxLoader; // Chargeur réutilisé par loadTmx
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        HeadlessGdx.init();
+        mapLoader = MapLoader.headless();
+        map = mapLoader.loadMap(mapPath);
+        tmxLoader = MapLoader.headless();
+
+        World world = new World(new Vector2(0, -15f), true);
+        GameMap gameMap = new GameMap(map, world, mergeTiles);
+        System.out.println("Obstacles : " + gameMap.getObstacleTileCount() + " tuiles -> "
+            + gameMap.getObstacleBodyCount() + " corps, " + gameMap.getObstacleFixtureCount() + " fixtures"
+            + (mergeTiles ? " (fusionnés)" : " (par tuile)"));
+        world.dispose();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        mapLoader.dispose();
+        tmxLoader.dispose();
+    }
+
+    @Benchmark
+    public int buildGameMap() {
+        World world = new World(new Vector2(0, -15f), true);
+        new GameMap(map, world, mergeTiles);
+        int bodies = world.getBodyCount();
+        world.dispose();
+        return bodies;
+    }
+
+    @Benchmark
+    public int loadTmx() {
+        int layers = tmxLoader.loadMap(mapPath).getLayers().getCount();
+        tmxLoader.dispose(); // Libère la carte lue
+        return layers;
+    }
+}
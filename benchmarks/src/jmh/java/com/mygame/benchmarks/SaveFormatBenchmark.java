@@ -0,0 +1,86 @@
+package com.mygame.benchmarks;
+
+import com.mygame.utils.saver.SaveData;
+import com.mygame.utils.saver.SaveFormat;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare le format binaire des sauvegardes ({@link SaveFormat}) à l'ancienne sérialisation Java,
+ * en mémoire, pour une partie arrêtée sur le premier niveau d'une chaîne de {@code levelCount} niveaux.
+ * <p>
+ * La sérialisation Java enregistre toute la chaîne des niveaux suivants : sa taille (affichée au démarrage)
+ * et son coût augmentent avec le nombre de niveaux, contrairement au format binaire.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SaveFormatBenchmark {
+
+    @Param({"3", "50"})
+    public int levelCount;
+
+    private SaveData data;
+    private byte[] binary;
+    private byte[] serialized;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        com.mygame.model.maps.Level first = null;
+        com.mygame.model.maps.Level previous = null;
+        for (int i = 1; i <= levelCount; i++) {
+            com.mygame.model.maps.Level level = new com.mygame.model.maps.Level("maps/level" + i + ".tmx", "level" + i);
+            if (previous == null) {
+                first = level;
+            } else {
+                previous.setNext(level);
+            }
+            previous = level;
+        }
+        data = new SaveData(first, 42);
+
+        ByteBuffer buffer = SaveFormat.encode(data);
+        binary = new byte[buffer.remaining()];
+        buffer.get(binary);
+        serialized = serialize();
+        System.out.println("Taille : " + binary.length + " octets (binaire), " + serialized.length + " octets (sérialisation Java)");
+    }
+
+    @Benchmark
+    public ByteBuffer writeBinary() {
+        return SaveFormat.encode(data);
+    }
+
+    @Benchmark
+    public SaveData readBinary() throws IOException {
+        return SaveFormat.decode(ByteBuffer.wrap(binary));
+    }
+
+    @Benchmark
+    public byte[] writeSerialized() throws IOException {
+        return serialize();
+    }
+
+    @Benchmark
+    public Object readSerialized() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            return input.readObject();
+        }
+    }
+
+    private byte[] serialize() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(data);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,58 @@
+package com.mygame.benchmarks;
+
+import com.badlogic.gdx.physics.box2d.World;
+import com.mygame.common.EntityFactory;
+import com.mygame.common.SoundFactory;
+import com.mygame.model.LevelSimulation;
+import com.mygame.model.maps.MapLoader;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mesure un pas de simulation sur chaque carte livrée : le {@code World.step} seul,
+ * puis le pas complet du niveau (mise à jour des entités, pas physique et destructions en attente).
+ * Chaque carte est mesurée avec les obstacles fusionnés et avec un corps par tuile ({@code mergeTiles}),
+ * pour comparer le coût du pas dans les deux modes (notamment sur level2 et level3).
+ * La simulation est recréée à chaque itération pour que l'état mesuré reste comparable.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WorldStepBenchmark {
+
+    @Param({"maps/level1.tmx", "maps/level2.tmx", "maps/level3.tmx"})
+    public String mapPath;
+
+    @Param({"true", "false"})
+    public boolean mergeTiles;
+
+    private EntityFactory entityFactory;
+    private LevelSimulation simulation;
+    private World world;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        HeadlessGdx.init();
+        entityFactory = EntityFactory.createHeadless();
+        simulation = new LevelSimulation(new com.mygame.model.maps.Level(mapPath, mapPath),
+            MapLoader.headless().loadMap(mapPath), mergeTiles, entityFactory, SoundFactory.getInstance());
+        world = simulation.getMap().getWorld();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        entityFactory.clearEntities();
+        simulation.dispose(); // Libère aussi la carte et le monde
+    }
+
+    @Benchmark
+    public void worldStep() {
+        world.step(LevelSimulation.TIME_STEP, 2, 2);
+    }
+
+    @Benchmark
+    public void simulationStep() {
+        simulation.step(LevelSimulation.TIME_STEP);
+    }
+}
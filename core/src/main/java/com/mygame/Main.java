@@ -2,15 +2,16 @@ package com.mygame;
 
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.Array;
 import com.mygame.controller.GameManager;
 import com.mygame.model.maps.Level;
 import com.mygame.utils.JsonLoader;
-import com.mygame.utils.saver.SaveData;
-import com.mygame.utils.saver.SaveManager;
+import com.mygame.utils.ResourceTracker;
 import com.mygame.view.screen.BadMapScreen;
 import com.mygame.view.screen.FirstScreen;
+import com.mygame.view.screen.MenuScreen;
 
 /**
  * Classe principale du jeu qui gère la création et la fermeture du jeu.
@@ -20,6 +21,7 @@ public class Main extends Game {
 
     private GameManager gameManager;
     private Array<Level> levels;
+    private final Array<Screen> replacedScreens = new Array<>(); // Écrans remplacés, libérés au début de la frame suivante
 
     /**
      * Méthode appelée lors de la création du jeu.
@@ -46,6 +48,49 @@ public class Main extends Game {
 
 
 
+    /**
+     * Change d'écran. L'écran remplacé n'est pas libéré immédiatement, car le changement est souvent demandé
+     * pendant son propre rendu : il est libéré au début de la frame suivante.
+     *
+     * @param screen Le nouvel écran.
+     */
+    @Override
+    public void setScreen(Screen screen) {
+        Screen previous = getScreen();
+        super.setScreen(screen);
+        if (previous != null && previous != screen) {
+            replacedScreens.add(previous);
+        }
+    }
+
+    /**
+     * Libère les écrans remplacés pendant la frame précédente, puis affiche l'écran courant.
+     */
+    @Override
+    public void render() {
+        disposeReplacedScreens();
+        super.render();
+    }
+
+    /**
+     * Libère les écrans qui ont été remplacés. En mode débogage, les ressources qu'ils n'ont pas libérées sont signalées,
+     * et le nombre de ressources encore vivantes est affiché à chaque retour au menu principal.
+     */
+    private void disposeReplacedScreens() {
+        if (replacedScreens.isEmpty()) {
+            return;
+        }
+        for (int i = 0; i < replacedScreens.size; i++) {
+            Screen screen = replacedScreens.get(i);
+            screen.dispose();
+            ResourceTracker.checkReleased(screen);
+        }
+        replacedScreens.clear();
+        if (getScreen() instanceof MenuScreen) {
+            ResourceTracker.dumpCounts("retour au menu");
+        }
+    }
+
     /**
      * Méthode appelée lors de la fermeture du jeu.
      * Sauvegarde les données du jeu (niveau actuel et nombre de pièces).
@@ -55,15 +100,20 @@ public class Main extends Game {
         // Sauvegarder les données du jeu avant la fermeture
         if (gameManager != null) {
             if (gameManager.getNeedSave()) {
-                SaveData saveData = new SaveData(gameManager.getCurrentLevel(), gameManager.getCoin());
-                SaveManager.saveGame(saveData);
-
-
-                System.out.println("Game saved during shutdown.");
+                gameManager.autosave(); // Écrite par gameManager.dispose(), avec une attente bornée
+                System.out.println("Game save requested during shutdown.");
             }
         }
-        // Appeler dispose() sur les autres ressources
+        // Appeler dispose() sur les autres ressources, puis libérer les écrans avant les ressources partagées
         super.dispose();
+        disposeReplacedScreens();
+        if (getScreen() != null) {
+            getScreen().dispose();
+        }
+        if (gameManager != null) {
+            gameManager.dispose(); // Libérer les cartes chargées, les ressources partagées et le thread de chargement
+        }
+        ResourceTracker.dumpLeaks("fermeture du jeu");
     }
 
     /**
@@ -6,6 +6,7 @@ import com.badlogic.gdx.maps.MapObject;
 import com.badlogic.gdx.maps.MapProperties;
 import com.badlogic.gdx.maps.objects.RectangleMapObject;
 import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.ObjectMap;
 import com.mygame.controller.GameManager;
@@ -16,6 +17,7 @@ import com.mygame.model.entities.enemies.PatrollingEnemy;
 import com.mygame.controller.enemymovement.FlyingMovement;
 import com.mygame.controller.enemymovement.PatrollingMovement;
 import com.mygame.model.maps.GameMap;
+import com.mygame.utils.ResourceTracker;
 
 /**
  * Factory responsable de la création et de la gestion des entités du jeu.
@@ -27,7 +29,9 @@ public class EntityFactory {
 
     private final ObjectMap<String, Texture> textureCache = new ObjectMap<>();
     private final Array<GameEntity> entities = new Array<>();
+    private Player player; // Joueur du niveau courant, mémorisé à sa création
     private final GameManager gameManager;
+    private final boolean headless; // Mode sans affichage : aucune texture n'est chargée
 
     /**
      * Constructeur privé pour empêcher l'instanciation extérieure.
@@ -35,12 +39,26 @@ public class EntityFactory {
      * @param gameManager Le gestionnaire de jeu associé à cette factory.
      */
     private EntityFactory(GameManager gameManager) {
+        this(gameManager, false);
+    }
+
+    /**
+     * Constructeur privé permettant de choisir le mode sans affichage.
+     *
+     * @param gameManager Le gestionnaire de jeu associé à cette factory (peut être null en mode sans affichage).
+     * @param headless {@code true} pour ne charger aucune texture.
+     */
+    private EntityFactory(GameManager gameManager, boolean headless) {
         this.gameManager = gameManager;
-        textureCache.put("player", new Texture("Entities/player.png"));
-        textureCache.put("zombie", new Texture("Entities/enemy.png"));
-        textureCache.put("bird", new Texture("Entities/flyingenemy.png"));
-        textureCache.put("flying_enemy", new Texture("Entities/enemy.png"));
-        textureCache.put("coin", new Texture("Entities/coin.png"));
+        this.headless = headless;
+        if (headless) {
+            return;
+        }
+        textureCache.put("player", ResourceTracker.track(new Texture("Entities/player.png")));
+        textureCache.put("zombie", ResourceTracker.track(new Texture("Entities/enemy.png")));
+        textureCache.put("bird", ResourceTracker.track(new Texture("Entities/flyingenemy.png")));
+        textureCache.put("flying_enemy", ResourceTracker.track(new Texture("Entities/enemy.png")));
+        textureCache.put("coin", ResourceTracker.track(new Texture("Entities/coin.png")));
     }
 
     /**
@@ -56,6 +74,17 @@ public class EntityFactory {
         return instance;
     }
 
+    /**
+     * Crée une factory indépendante du singleton, sans texture ni gestionnaire de jeu.
+     * Les entités créées ont des sprites vides mais des corps physiques identiques au jeu normal.
+     * Utilisée pour la simulation sans affichage.
+     *
+     * @return Une nouvelle factory en mode sans affichage.
+     */
+    public static EntityFactory createHeadless() {
+        return new EntityFactory(null, true);
+    }
+
     /**
      * Charge les entités à partir de la carte fournie.
      *
@@ -90,6 +119,9 @@ public class EntityFactory {
             GameEntity entity = createEntity(type, x, y, map, properties);
             if (entity != null) {
                 entities.add(entity);
+                if (entity instanceof Player) {
+                    player = (Player) entity;
+                }
             }
         }
 
@@ -119,10 +151,10 @@ public class EntityFactory {
 
         switch (type) {
             case "player":
-                    sprite = new Sprite(textureCache.get("player"));
+                    sprite = createSprite("player");
                     sprite.setSize(0.8f, 0.8f);
                     entity = new Player(unitX, unitY, sprite, gamemap.getWorld());
-                    entity.setScore(gameManager.getCoin());
+                    entity.setScore(gameManager != null ? gameManager.getCoin() : 0);
 
                 break;
 
@@ -134,7 +166,7 @@ public class EntityFactory {
                     String texture = properties.get("name", String.class);
                     String enemyType = properties.get("subtype", String.class); // "subtype" est optionnel
 
-                    sprite = new Sprite(textureCache.get(texture));
+                    sprite = createSprite(texture);
                     sprite.setSize(1, 1);
 
                     if ("walk".equals(enemyType)) {
@@ -158,7 +190,7 @@ public class EntityFactory {
                 // Vérification de la propriété "subtype"
                 if (properties.containsKey("subtype")) {
                     String subtype = (String) properties.get("subtype");
-                    sprite = new Sprite(textureCache.get(subtype));
+                    sprite = createSprite(subtype);
                     sprite.setSize(0.5f, 0.5f);
 
                     if ("coin".equals(subtype)) {
@@ -179,19 +211,43 @@ public class EntityFactory {
         return entity;
     }
 
+    /**
+     * Crée le sprite d'une entité à partir du cache de textures.
+     * En mode sans affichage, un sprite vide est retourné.
+     *
+     * @param textureName Le nom de la texture dans le cache.
+     * @return Le sprite créé.
+     */
+    private Sprite createSprite(String textureName) {
+        if (headless) {
+            return new Sprite();
+        }
+        return new Sprite(textureCache.get(textureName));
+    }
 
     /**
-     * Récupère le joueur depuis la liste des entités.
+     * Récupère le joueur du niveau courant.
+     * La référence est mémorisée lors du chargement des entités, sans parcourir la liste.
      *
      * @return Une instance de Player si trouvée, sinon null.
      */
     public Player getPlayer() {
-        for (GameEntity entity : entities) {
-            if (entity instanceof Player) {
-                return (Player) entity;
-            }
+        return player;
+    }
+
+    /**
+     * Retrouve l'entité associée à un corps Box2D.
+     * Chaque entité est enregistrée comme donnée utilisateur de son corps, la recherche se fait donc en temps constant.
+     *
+     * @param body Le corps Box2D.
+     * @return L'entité associée au corps, ou null si le corps n'appartient à aucune entité.
+     */
+    public GameEntity getEntity(Body body) {
+        if (body == null) {
+            return null;
         }
-        return null;
+        Object userData = body.getUserData();
+        return userData instanceof GameEntity ? (GameEntity) userData : null;
     }
 
     /**
@@ -204,13 +260,14 @@ public class EntityFactory {
     }
 
     /**
-     * Vide la liste des entités et libère leurs ressources.
+     * Vide la liste des entités et libère leurs ressources, notamment leurs corps dans le monde physique.
      */
-    private void clearEntities() {
+    public void clearEntities() {
         for (GameEntity entity : entities) {
             entity.dispose();
         }
         entities.clear();
+        player = null;
     }
 
     /**
@@ -218,7 +275,7 @@ public class EntityFactory {
      */
     public void dispose() {
         for (Texture texture : textureCache.values()) {
-            texture.dispose();
+            ResourceTracker.dispose(texture);
         }
         textureCache.clear();
     }
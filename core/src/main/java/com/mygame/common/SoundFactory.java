@@ -2,22 +2,58 @@ package com.mygame.common;
 
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.TimeUtils;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import com.mygame.utils.ResourceTracker;
 
 /**
  * La classe SoundFactory est utilisée pour charger et gérer les effets sonores dans le jeu.
  * Elle permet de centraliser le chargement des sons et de les jouer facilement à différents moments.
  * Cette classe est un Singleton afin d'avoir une seule instance pour gérer les sons.
+ * <p>
+ * C'est le seul point d'accès à l'audio : chaque son est décodé une seule fois puis partagé. Pour borner le coût
+ * de l'audio lors des rafales (une rangée de pièces ramassée en une frame), chaque son a un nombre maximal de voix
+ * simultanées — la voix la plus ancienne est arrêtée au-delà — et les demandes répétées d'un même son dans une
+ * fenêtre de {@value #DEDUP_WINDOW_MILLIS} ms (environ une frame) sont fusionnées.
+ * </p>
  */
 public class SoundFactory {
+
+    /**
+     * Nombre maximal de voix simultanées d'un son, par défaut.
+     */
+    public static final int DEFAULT_MAX_VOICES = 4;
+
+    /**
+     * Durée pendant laquelle les nouvelles demandes d'un son qui vient d'être joué sont ignorées (en millisecondes).
+     */
+    public static final int DEDUP_WINDOW_MILLIS = 16;
+
     // Dictionnaire pour stocker les sons chargés
-    private static final Map<String, Sound> soundMap = new HashMap<>();
+    private static final Map<String, SoundEntry> soundMap = new HashMap<>();
 
     // Instance unique de SoundFactory
     private static SoundFactory instance = null;
 
+    /**
+     * Un son chargé et ses voix en cours.
+     */
+    private static final class SoundEntry {
+        final Sound sound;        // Son décodé, partagé
+        final long[] voices;      // Identifiants des dernières voix jouées (tampon circulaire)
+        int nextVoice;            // Prochaine case du tampon, occupée par la voix la plus ancienne
+        long lastPlayTime = -DEDUP_WINDOW_MILLIS; // Instant du dernier déclenchement (en millisecondes)
+
+        SoundEntry(Sound sound, int maxVoices) {
+            this.sound = sound;
+            this.voices = new long[maxVoices];
+            Arrays.fill(voices, -1);
+        }
+    }
+
     // Constructeur privé pour empêcher l'instanciation directe
     private SoundFactory() {}
 
@@ -35,30 +71,56 @@ public class SoundFactory {
     }
 
     /**
-     * Charge un son à partir d'un fichier.
+     * Charge un son à partir d'un fichier, avec le nombre de voix simultanées par défaut.
      * Si le son a déjà été chargé, il ne sera pas rechargé.
      *
      * @param soundName Le nom du fichier sonore (sans extension).
      */
     public void loadSound(String soundName) {
+        loadSound(soundName, DEFAULT_MAX_VOICES);
+    }
+
+    /**
+     * Charge un son à partir d'un fichier.
+     * Si le son a déjà été chargé, il ne sera pas rechargé.
+     *
+     * @param soundName Le nom du fichier sonore (sans extension).
+     * @param maxVoices Le nombre maximal de voix simultanées de ce son (au moins 1).
+     */
+    public void loadSound(String soundName, int maxVoices) {
         if (!soundMap.containsKey(soundName)) {
-            Sound sound = Gdx.audio.newSound(Gdx.files.internal("sounds/" + soundName + ".mp3"));
-            soundMap.put(soundName, sound);
+            Sound sound = ResourceTracker.track(Gdx.audio.newSound(Gdx.files.internal("sounds/" + soundName + ".mp3")));
+            soundMap.put(soundName, new SoundEntry(sound, Math.max(1, maxVoices)));
         }
     }
 
     /**
      * Joue un son.
      * Le son doit d'abord être chargé via la méthode loadSound().
+     * La demande est ignorée si le même son vient d'être joué ; si toutes ses voix sont occupées,
+     * la plus ancienne est arrêtée.
      *
      * @param soundName Le nom du fichier sonore (sans extension).
      */
     public void playSound(String soundName) {
-        if (soundMap.containsKey(soundName)) {
-            soundMap.get(soundName).play();
-        } else {
+        SoundEntry entry = soundMap.get(soundName);
+        if (entry == null) {
             System.err.println("Le son " + soundName + " n'a pas été chargé !");
+            return;
+        }
+
+        long now = TimeUtils.millis();
+        if (now - entry.lastPlayTime < DEDUP_WINDOW_MILLIS) {
+            return; // Même son déjà déclenché pendant cette frame
+        }
+        entry.lastPlayTime = now;
+
+        long oldest = entry.voices[entry.nextVoice];
+        if (oldest != -1) {
+            entry.sound.stop(oldest); // Sans effet si la voix est déjà terminée
         }
+        entry.voices[entry.nextVoice] = entry.sound.play();
+        entry.nextVoice = (entry.nextVoice + 1) % entry.voices.length;
     }
 
     /**
@@ -66,8 +128,8 @@ public class SoundFactory {
      * Cette méthode doit être appelée lorsque le jeu ou la scène est terminée.
      */
     public void dispose() {
-        for (Sound sound : soundMap.values()) {
-            sound.dispose();
+        for (SoundEntry entry : soundMap.values()) {
+            ResourceTracker.dispose(entry.sound);
         }
         soundMap.clear();
     }
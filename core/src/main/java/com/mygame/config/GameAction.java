@@ -0,0 +1,60 @@
+package com.mygame.config;
+
+import com.badlogic.gdx.Input;
+
+/**
+ * L'énumération {@code GameAction} définit les actions du joueur qui peuvent être associées à une touche,
+ * avec leur clé dans les préférences et leur touche par défaut.
+ */
+public enum GameAction {
+    MOVE_RIGHT("move_right", Input.Keys.RIGHT), // Déplacement vers la droite
+    MOVE_LEFT("move_left", Input.Keys.LEFT),    // Déplacement vers la gauche
+    JUMP("jump", Input.Keys.SPACE);             // Saut
+
+    private static final GameAction[] VALUES = values(); // Copie unique du tableau des actions
+
+    private final String preferenceKey; // Clé de la touche dans les préférences
+    private final int defaultKey;       // Touche utilisée si aucune n'est enregistrée
+
+    GameAction(String preferenceKey, int defaultKey) {
+        this.preferenceKey = preferenceKey;
+        this.defaultKey = defaultKey;
+    }
+
+    /**
+     * Retourne la clé de la touche dans les préférences.
+     *
+     * @return La clé des préférences.
+     */
+    public String getPreferenceKey() {
+        return preferenceKey;
+    }
+
+    /**
+     * Retourne la touche associée par défaut à l'action.
+     *
+     * @return Le code de la touche par défaut.
+     */
+    public int getDefaultKey() {
+        return defaultKey;
+    }
+
+    /**
+     * Retourne l'action d'indice donné, sans copier le tableau des actions comme {@code values()}.
+     *
+     * @param ordinal L'indice de l'action.
+     * @return L'action.
+     */
+    public static GameAction fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    /**
+     * Retourne le nombre d'actions.
+     *
+     * @return Le nombre d'actions.
+     */
+    public static int count() {
+        return VALUES.length;
+    }
+}
@@ -4,30 +4,123 @@ import com.badlogic.gdx.Input;
 import com.badlogic.gdx.Preferences;
 import com.badlogic.gdx.Gdx;
 
+import java.util.Arrays;
+
 /**
  * Classe de gestion des bindings de touches du jeu.
  * Permet de récupérer et d'enregistrer les touches utilisées pour les actions du joueur.
+ * <p>
+ * Les préférences ne sont lues qu'une fois, à la création de l'instance unique : les touches sont ensuite
+ * servies par deux tableaux en mémoire (touche de chaque action, et action de chaque code de touche),
+ * si bien que le traitement d'un événement clavier n'est qu'un accès à un tableau. Les modifications marquent
+ * les bindings comme modifiés et ne sont écrites sur le disque que par {@link #flush()},
+ * appelée à la fermeture de l'écran des paramètres.
+ * </p>
+ * <p>
+ * Une touche ne peut être associée qu'à une seule action : associer à une action une touche déjà utilisée
+ * échange les touches des deux actions.
+ * </p>
  */
 public class KeyBindings {
 
     private static final String PREFS_NAME = "key_bindings";
-    private static Preferences preferences;
+    private static final int NO_ACTION = -1; // Code de touche sans action associée
+
+    // Instance unique de KeyBindings
+    private static KeyBindings instance = null;
+
+    private final Preferences preferences;
+    private final int[] keyByAction = new int[GameAction.count()];          // Touche de chaque action, par indice d'action
+    private final int[] actionByKey = new int[Input.Keys.MAX_KEYCODE + 1];  // Indice de l'action de chaque touche, ou NO_ACTION
+    private boolean dirty;                                                  // Vrai si des touches n'ont pas été enregistrées
 
-    // Bloc statique pour initialiser les préférences
-    static {
+    /**
+     * Constructeur privé. Lit les touches enregistrées ; les actions sans touche enregistrée
+     * reçoivent leur touche par défaut (flèches gauche/droite et espace pour sauter).
+     */
+    private KeyBindings() {
         preferences = Gdx.app.getPreferences(PREFS_NAME);
+        Arrays.fill(actionByKey, NO_ACTION);
+        for (int i = 0; i < GameAction.count(); i++) {
+            GameAction action = GameAction.fromOrdinal(i);
+            if (!preferences.contains(action.getPreferenceKey())) {
+                dirty = true; // Touches par défaut enregistrées au prochain flush()
+            }
+            keyByAction[i] = preferences.getInteger(action.getPreferenceKey(), action.getDefaultKey());
+        }
+        rebuildActionTable();
+    }
+
+    /**
+     * Méthode pour obtenir l'instance unique de KeyBindings.
+     * Si l'instance n'existe pas, elle est créée à partir des préférences.
+     *
+     * @return L'instance unique de KeyBindings.
+     */
+    public static KeyBindings getInstance() {
+        if (instance == null) {
+            instance = new KeyBindings();
+        }
+        return instance;
+    }
+
+    /**
+     * Retourne l'action associée à une touche.
+     *
+     * @param keyCode Le code de la touche.
+     * @return L'action associée, ou null si la touche n'est associée à aucune action.
+     */
+    public GameAction getAction(int keyCode) {
+        if (keyCode < 0 || keyCode >= actionByKey.length) {
+            return null;
+        }
+        int action = actionByKey[keyCode];
+        return action != NO_ACTION ? GameAction.fromOrdinal(action) : null;
+    }
+
+    /**
+     * Retourne la touche associée à une action.
+     *
+     * @param action L'action.
+     * @return Le code de la touche associée.
+     */
+    public int getKey(GameAction action) {
+        return keyByAction[action.ordinal()];
+    }
+
+    /**
+     * Associe une touche à une action. Si la touche était associée à une autre action, celle-ci reçoit
+     * l'ancienne touche de l'action. La modification n'est enregistrée que par {@link #flush()}.
+     *
+     * @param action L'action à modifier.
+     * @param keyCode Le code de la nouvelle touche.
+     */
+    public void setKey(GameAction action, int keyCode) {
+        int previousKey = keyByAction[action.ordinal()];
+        if (previousKey == keyCode) {
+            return;
+        }
+        GameAction other = getAction(keyCode);
+        if (other != null) {
+            keyByAction[other.ordinal()] = previousKey; // Échange des touches
+        }
+        keyByAction[action.ordinal()] = keyCode;
+        rebuildActionTable();
+        dirty = true;
     }
 
     /**
-     * Constructeur par défaut. Si les préférences de touches n'existent pas, elles sont initialisées
-     * avec des valeurs par défaut (flèches gauche/droite et espace pour sauter).
+     * Enregistre les touches dans les préférences si elles ont été modifiées.
      */
-    public KeyBindings() {
-        if (!preferences.contains("move_right")) {
-            setMoveRightKey(Input.Keys.RIGHT);
-            setMoveLeftKey(Input.Keys.LEFT);
-            setJumpKey(Input.Keys.SPACE);
+    public void flush() {
+        if (!dirty) {
+            return;
         }
+        for (int i = 0; i < GameAction.count(); i++) {
+            preferences.putInteger(GameAction.fromOrdinal(i).getPreferenceKey(), keyByAction[i]);
+        }
+        preferences.flush();
+        dirty = false;
     }
 
     /**
@@ -36,7 +129,7 @@ public class KeyBindings {
      * @return Le code de la touche associée au mouvement vers la droite.
      */
     public int getMoveRightKey() {
-        return preferences.getInteger("move_right", Input.Keys.RIGHT);
+        return getKey(GameAction.MOVE_RIGHT);
     }
 
     /**
@@ -45,7 +138,7 @@ public class KeyBindings {
      * @return Le code de la touche associée au mouvement vers la gauche.
      */
     public int getMoveLeftKey() {
-        return preferences.getInteger("move_left", Input.Keys.LEFT);
+        return getKey(GameAction.MOVE_LEFT);
     }
 
     /**
@@ -54,7 +147,7 @@ public class KeyBindings {
      * @return Le code de la touche associée au saut.
      */
     public int getJumpKey() {
-        return preferences.getInteger("jump", Input.Keys.SPACE);
+        return getKey(GameAction.JUMP);
     }
 
     /**
@@ -63,8 +156,7 @@ public class KeyBindings {
      * @param keyCode Le code de la touche à associer au mouvement vers la droite.
      */
     public void setMoveRightKey(int keyCode) {
-        preferences.putInteger("move_right", keyCode);
-        preferences.flush();
+        setKey(GameAction.MOVE_RIGHT, keyCode);
     }
 
     /**
@@ -73,8 +165,7 @@ public class KeyBindings {
      * @param keyCode Le code de la touche à associer au mouvement vers la gauche.
      */
     public void setMoveLeftKey(int keyCode) {
-        preferences.putInteger("move_left", keyCode);
-        preferences.flush();
+        setKey(GameAction.MOVE_LEFT, keyCode);
     }
 
     /**
@@ -83,7 +174,19 @@ public class KeyBindings {
      * @param keyCode Le code de la touche à associer au saut.
      */
     public void setJumpKey(int keyCode) {
-        preferences.putInteger("jump", keyCode);
-        preferences.flush();
+        setKey(GameAction.JUMP, keyCode);
+    }
+
+    /**
+     * Reconstruit la table des actions par code de touche à partir des touches des actions.
+     */
+    private void rebuildActionTable() {
+        Arrays.fill(actionByKey, NO_ACTION);
+        for (int i = 0; i < keyByAction.length; i++) {
+            int key = keyByAction[i];
+            if (key >= 0 && key < actionByKey.length) {
+                actionByKey[key] = i;
+            }
+        }
     }
 }
@@ -0,0 +1,101 @@
+package com.mygame.controller;
+
+import com.badlogic.gdx.Input;
+import com.mygame.controller.commands.Command;
+
+import java.util.Arrays;
+
+/**
+ * La classe {@code CommandTable} associe les codes de touche aux commandes du joueur.
+ * <p>
+ * Chaque code de touche indexe directement trois tableaux : la commande exécutée à l'appui, celle exécutée
+ * au relâchement et l'état enfoncé de la touche. Les cases sans commande contiennent une commande vide,
+ * si bien qu'un événement clavier se traite par un simple accès à un tableau, sans conversion du code de touche
+ * en objet ni comparaison avec chaque binding, quel que soit le nombre d'actions.
+ * La table est remplie par {@link GameManager#setupCommands} et lue par l'{@link InputHandler}.
+ * </p>
+ */
+public class CommandTable {
+
+    private static final Command NONE = () -> {}; // Commande des touches sans action
+
+    private final Command[] pressCommands = new Command[Input.Keys.MAX_KEYCODE + 1];   // Commande à l'appui, par code de touche
+    private final Command[] releaseCommands = new Command[Input.Keys.MAX_KEYCODE + 1]; // Commande au relâchement, par code de touche
+    private final boolean[] held = new boolean[Input.Keys.MAX_KEYCODE + 1];             // Touches actuellement enfoncées
+
+    /**
+     * Constructeur d'une table vide.
+     */
+    public CommandTable() {
+        clear();
+    }
+
+    /**
+     * Retire toutes les commandes et oublie les touches enfoncées.
+     */
+    public void clear() {
+        Arrays.fill(pressCommands, NONE);
+        Arrays.fill(releaseCommands, NONE);
+        Arrays.fill(held, false);
+    }
+
+    /**
+     * Associe des commandes à une touche.
+     *
+     * @param keyCode Le code de la touche.
+     * @param onPress La commande exécutée à l'appui, ou null.
+     * @param onRelease La commande exécutée au relâchement, ou null.
+     */
+    public void bind(int keyCode, Command onPress, Command onRelease) {
+        if (keyCode < 0 || keyCode >= pressCommands.length) {
+            System.err.println("Code de touche invalide : " + keyCode);
+            return;
+        }
+        pressCommands[keyCode] = onPress != null ? onPress : NONE;
+        releaseCommands[keyCode] = onRelease != null ? onRelease : NONE;
+    }
+
+    /**
+     * Traite l'appui d'une touche : la commande associée n'est exécutée que si la touche n'était pas déjà enfoncée.
+     *
+     * @param keyCode Le code de la touche.
+     * @return {@code true} si une commande est associée à la touche.
+     */
+    public boolean keyDown(int keyCode) {
+        if (keyCode < 0 || keyCode >= held.length) {
+            return false;
+        }
+        Command command = pressCommands[keyCode];
+        if (!held[keyCode]) {
+            held[keyCode] = true;
+            command.execute();
+        }
+        return command != NONE;
+    }
+
+    /**
+     * Traite le relâchement d'une touche.
+     *
+     * @param keyCode Le code de la touche.
+     * @return {@code true} si une commande est associée à la touche.
+     */
+    public boolean keyUp(int keyCode) {
+        if (keyCode < 0 || keyCode >= held.length) {
+            return false;
+        }
+        held[keyCode] = false;
+        Command command = releaseCommands[keyCode];
+        command.execute();
+        return command != NONE;
+    }
+
+    /**
+     * Indique si une touche est enfoncée.
+     *
+     * @param keyCode Le code de la touche.
+     * @return {@code true} si la touche est enfoncée.
+     */
+    public boolean isHeld(int keyCode) {
+        return keyCode >= 0 && keyCode < held.length && held[keyCode];
+    }
+}
@@ -1,21 +1,34 @@
 package com.mygame.controller;
 
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.physics.box2d.World;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
 import com.mygame.Main;
 import com.mygame.common.SoundFactory;
+import com.mygame.config.GameAction;
 import com.mygame.config.KeyBindings;
 import com.mygame.controller.commands.Command;
 import com.mygame.common.EntityFactory;
-import com.badlogic.gdx.graphics.g2d.Sprite;
-import com.badlogic.gdx.graphics.Texture;
+import com.mygame.model.LevelSimulation;
 import com.mygame.model.entities.Player;
 import com.mygame.model.maps.Level;
+import com.mygame.model.maps.LevelBlueprint;
 import java.util.HashMap;
+import java.util.List;
 import com.mygame.controller.commands.*;
+import com.mygame.utils.saver.AutosaveService;
+import com.mygame.utils.saver.LevelStats;
 import com.mygame.utils.saver.SaveData;
-import com.mygame.utils.saver.SaveManager;
+import com.mygame.view.RenderContext;
 import com.mygame.view.screen.EndGameScreen;
 import com.mygame.view.screen.LevelScreen;
+import com.mygame.view.screen.LoadingScreen;
+import com.mygame.utils.ResourceTracker;
 
 /**
  * Le gestionnaire principal du jeu. Cette classe est responsable de la gestion des éléments
@@ -28,6 +41,15 @@ public class GameManager {
     // L'instance unique du GameManager
     private static GameManager instance;
 
+    // Préchargement du niveau suivant pendant la partie
+    private static final int PREFETCH_BUDGET_MILLIS = 2;                  // Temps accordé au préchargement par frame
+    private static final long PREFETCH_MIN_FREE_HEAP = 64L * 1024 * 1024; // Mémoire libre minimale pour précharger un niveau
+    private static final long PREFETCH_MAX_TEXTURE_BYTES = 32L * 1024 * 1024; // Mémoire graphique maximale des textures préchargées
+
+    // Sauvegarde automatique en arrière-plan
+    private static final long AUTOSAVE_INTERVAL_MILLIS = 2000;         // Intervalle minimal entre deux écritures
+    private static final long AUTOSAVE_SHUTDOWN_TIMEOUT_MILLIS = 1000; // Attente maximale de la dernière écriture à la fermeture
+
     // Références à l'EntityFactory, au joueur, au niveau actuel et aux commandes
     private EntityFactory entityFactory;
     private SoundFactory soundFactory;
@@ -36,8 +58,19 @@ public class GameManager {
     private Array<Level> levels;
     private Boolean needSave;
     private Main game;
-    private HashMap<Integer, Command> commands;
+    private final CommandTable commandTable;     // Commandes du joueur, par code de touche
     private int coin;
+    private final AssetManager assetManager;     // Gestionnaire de ressources qui charge les cartes des niveaux
+    private final AsyncExecutor loadingExecutor; // Thread de préparation des niveaux
+    private String loadedMapPath;                // Chemin de la dernière carte chargée par l'AssetManager
+    private String prefetchPath;                 // Chemin de la carte en cours de préchargement (un seul niveau à la fois)
+    private AsyncResult<LevelBlueprint> prefetchTask; // Préparation du niveau préchargé, une fois sa carte chargée
+    private World world;                         // Monde physique réutilisé d'un niveau à l'autre
+    private RenderContext renderContext;         // Ressources graphiques partagées par les niveaux
+    private final AutosaveService autosave;      // Écriture des sauvegardes sur un thread dédié
+    private final HashMap<String, LevelStats> levelStats = new HashMap<>(); // Meilleurs résultats, par chemin de niveau
+    private int saveSlot;                        // Emplacement de sauvegarde de la partie en cours
+    private double playTimeMillis;               // Temps de jeu total de la partie en cours (en millisecondes, avec les fractions)
 
     /**
      * Constructeur privé du GameManager. Initialise les composants du jeu, comme le joueur,
@@ -59,10 +92,11 @@ public class GameManager {
         soundFactory.loadSound("lose");
         this.entityFactory = EntityFactory.getInstance(this);
         this.levels = levels;
-        // Initialisation du joueur
-        Sprite sprite = new Sprite(new Texture("Entities/player.png"));
-        this.keyBindings = new KeyBindings();
-        commands = new HashMap<>();
+        this.keyBindings = KeyBindings.getInstance();
+        this.commandTable = new CommandTable();
+        this.assetManager = new AssetManager();
+        this.loadingExecutor = new AsyncExecutor(1, "level-loading");
+        this.autosave = new AutosaveService(AUTOSAVE_INTERVAL_MILLIS);
     }
 
     /**
@@ -94,22 +128,58 @@ public class GameManager {
     }
 
     /**
-     * Méthode appelée lorsque le niveau est terminé. Gère l'ajout de pièces,
-     * la transition vers le niveau suivant, ou l'affichage de l'écran de fin de jeu
-     * si tous les niveaux sont terminés.
+     * Méthode appelée lorsque le niveau est terminé. Gère l'ajout de pièces, l'enregistrement des meilleurs résultats
+     * du niveau, la transition vers le niveau suivant, ou l'affichage de l'écran de fin de jeu
+     * si tous les niveaux sont terminés. La progression est ensuite sauvegardée en arrière-plan.
+     *
+     * @param timeMillis Le temps de jeu passé dans le niveau (en millisecondes).
      */
-    public void levelCompleted() {
-        addCoin(getEntityFactory().getPlayer().getScore());
+    public void levelCompleted(int timeMillis) {
+        int score = getEntityFactory().getPlayer().getScore();
+        recordLevelStats(currentLevel, score, timeMillis);
+        addCoin(score);
         if (currentLevel.getNext() != null) {
             currentLevel = currentLevel.getNext();
             System.out.println("Niveau terminé! Passage au niveau suivant : " + currentLevel.getName());
-            game.setScreen(new LevelScreen(this, currentLevel));
+            startLevel(currentLevel);
         } else {
             System.out.println("Aucun niveau suivant. Vous avez terminé tous les niveaux !");
+            autosave();
             game.setScreen(new EndGameScreen(game, this));
         }
     }
 
+    /**
+     * Met à jour les meilleurs résultats d'un niveau.
+     *
+     * @param level Le niveau terminé.
+     * @param coins Le nombre de pièces collectées.
+     * @param timeMillis Le temps passé dans le niveau (en millisecondes).
+     */
+    private void recordLevelStats(Level level, int coins, int timeMillis) {
+        LevelStats stats = levelStats.get(level.getPath());
+        if (stats == null) {
+            levelStats.put(level.getPath(), new LevelStats(level.getPath(), coins, timeMillis));
+            return;
+        }
+        stats.setBestCoins(Math.max(stats.getBestCoins(), coins));
+        if (stats.getBestTimeMillis() == 0 || timeMillis < stats.getBestTimeMillis()) {
+            stats.setBestTimeMillis(timeMillis);
+        }
+    }
+
+    /**
+     * Remplace les meilleurs résultats des niveaux par ceux d'une sauvegarde chargée.
+     *
+     * @param savedStats Les statistiques enregistrées dans la sauvegarde.
+     */
+    public void restoreLevelStats(List<LevelStats> savedStats) {
+        levelStats.clear();
+        for (LevelStats stats : savedStats) {
+            levelStats.put(stats.getLevelPath(), stats);
+        }
+    }
+
     /**
      * Méthode appelée si le niveau est passé, mais invalidé. Elle essaie de passer
      * au niveau suivant.
@@ -118,13 +188,225 @@ public class GameManager {
         if (currentLevel.getNext() != null) {
             currentLevel = currentLevel.getNext();
             System.out.println("Niveau invalide! Passage au niveau suivant : " + currentLevel.getName());
-            game.setScreen(new LevelScreen(this, currentLevel));
+            startLevel(currentLevel);
         } else {
             System.out.println("Aucun niveau suivant. Vous avez terminé tous les niveaux !");
             game.setScreen(new EndGameScreen(game, this));
         }
     }
 
+    /**
+     * Lance un niveau en affichant l'écran de chargement.
+     * La carte du niveau précédent est libérée si le nouveau niveau en utilise une autre ;
+     * relancer le même niveau réutilise la carte déjà chargée.
+     *
+     * @param level Le niveau à lancer.
+     */
+    public void startLevel(Level level) {
+        String path = level.getPath();
+
+        // Reprendre le préchargement s'il concerne ce niveau, sinon l'annuler
+        AsyncResult<LevelBlueprint> prefetched = null;
+        if (path.equals(prefetchPath)) {
+            prefetched = prefetchTask;
+            prefetchPath = null;
+            prefetchTask = null;
+        } else {
+            cancelPrefetch();
+        }
+
+        if (loadedMapPath != null && !loadedMapPath.equals(path) && assetManager.contains(loadedMapPath)) {
+            assetManager.unload(loadedMapPath);
+        }
+        loadedMapPath = path;
+        autosave(); // Le niveau lancé devient le point de reprise
+
+        // Niveau entièrement préparé : passage immédiat, sans écran de chargement
+        if (prefetched != null && prefetched.isDone()) {
+            try {
+                game.setScreen(new LevelScreen(this, level, prefetched.get()));
+                return;
+            } catch (GdxRuntimeException e) {
+                System.err.println("Échec du préchargement du niveau " + path + " : " + e.getMessage());
+                prefetched = null;
+            }
+        }
+        game.setScreen(new LoadingScreen(this, level, prefetched));
+    }
+
+    /**
+     * Commence à précharger un niveau en arrière-plan pendant la partie : chargement de sa carte,
+     * puis fusion de ses obstacles. Un seul niveau est préchargé à la fois, et le préchargement est ignoré
+     * si la mémoire libre est insuffisante (voir {@link #updatePrefetch()} pour le budget appliqué ensuite).
+     *
+     * @param level Le niveau à précharger (généralement le niveau suivant), ou null.
+     */
+    public void prefetch(Level level) {
+        if (level == null || level.getPath().equals(prefetchPath)) {
+            return;
+        }
+        cancelPrefetch();
+        if (level.getPath().equals(loadedMapPath)) {
+            return; // Carte déjà chargée pour le niveau en cours
+        }
+
+        if (freeHeap() < PREFETCH_MIN_FREE_HEAP) {
+            System.out.println("Mémoire insuffisante, le niveau " + level.getName() + " ne sera pas préchargé.");
+            return;
+        }
+
+        prefetchPath = level.getPath();
+        if (!assetManager.contains(prefetchPath)) {
+            assetManager.load(prefetchPath, TiledMap.class);
+        }
+    }
+
+    /**
+     * Fait avancer le préchargement en cours, avec un budget de temps réduit pour ne pas ralentir la partie.
+     * Cette méthode doit être appelée à chaque frame par l'écran du niveau.
+     * <p>
+     * Le préchargement est annulé dès que le tas Java libre passe sous {@value #PREFETCH_MIN_FREE_HEAP} octets,
+     * ou que les textures déjà chargées pour la carte (hors textures partagées avec le niveau en cours)
+     * dépassent {@value #PREFETCH_MAX_TEXTURE_BYTES} octets de mémoire graphique estimée.
+     * </p>
+     */
+    public void updatePrefetch() {
+        if (prefetchPath == null || prefetchTask != null) {
+            return;
+        }
+        if (freeHeap() < PREFETCH_MIN_FREE_HEAP) {
+            System.out.println("Mémoire insuffisante, préchargement du niveau " + prefetchPath + " annulé.");
+            cancelPrefetch();
+            return;
+        }
+        try {
+            boolean loaded = assetManager.update(PREFETCH_BUDGET_MILLIS);
+            long textureBytes = estimatePrefetchTextureBytes();
+            if (textureBytes > PREFETCH_MAX_TEXTURE_BYTES) {
+                System.out.println("Textures du niveau " + prefetchPath + " trop volumineuses (" + textureBytes / 1024
+                    + " Ko), préchargement annulé.");
+                cancelPrefetch();
+                return;
+            }
+            if (loaded && assetManager.isLoaded(prefetchPath, TiledMap.class)) {
+                TiledMap map = assetManager.get(prefetchPath, TiledMap.class);
+                String path = prefetchPath;
+                prefetchTask = loadingExecutor.submit(() -> new LevelBlueprint(path, map));
+            }
+        } catch (GdxRuntimeException e) {
+            System.err.println("Échec du préchargement du niveau " + prefetchPath + " : " + e.getMessage());
+            prefetchPath = null;
+        }
+    }
+
+    /**
+     * Estime la mémoire graphique des textures déjà chargées pour la carte préchargée (4 octets par pixel).
+     * Les textures aussi utilisées par la carte du niveau en cours ne sont pas comptées : elles sont déjà en mémoire.
+     *
+     * @return Le nombre d'octets estimé.
+     */
+    private long estimatePrefetchTextureBytes() {
+        Array<String> dependencies = assetManager.getDependencies(prefetchPath);
+        if (dependencies == null) {
+            return 0; // Dépendances pas encore connues
+        }
+        Array<String> shared = loadedMapPath != null && assetManager.isLoaded(loadedMapPath)
+            ? assetManager.getDependencies(loadedMapPath) : null;
+        long bytes = 0;
+        for (int i = 0; i < dependencies.size; i++) {
+            String dependency = dependencies.get(i);
+            if ((shared == null || !shared.contains(dependency, false)) && assetManager.isLoaded(dependency, Texture.class)) {
+                Texture texture = assetManager.get(dependency, Texture.class);
+                bytes += (long) texture.getWidth() * texture.getHeight() * 4;
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Retourne la mémoire encore disponible pour le tas Java.
+     */
+    private static long freeHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.maxMemory() - (runtime.totalMemory() - runtime.freeMemory());
+    }
+
+    /**
+     * Annule le préchargement en cours et libère la carte préchargée.
+     */
+    public void cancelPrefetch() {
+        if (prefetchPath == null) {
+            return;
+        }
+        if (!prefetchPath.equals(loadedMapPath) && assetManager.contains(prefetchPath)) {
+            assetManager.unload(prefetchPath);
+        }
+        prefetchPath = null;
+        prefetchTask = null; // La préparation éventuellement en cours est abandonnée
+    }
+
+    /**
+     * Retourne le gestionnaire de ressources utilisé pour charger les cartes des niveaux.
+     *
+     * @return Le gestionnaire de ressources.
+     */
+    public AssetManager getAssetManager() {
+        return assetManager;
+    }
+
+    /**
+     * Retourne le thread utilisé pour préparer les niveaux pendant l'écran de chargement.
+     *
+     * @return L'exécuteur de chargement.
+     */
+    public AsyncExecutor getLoadingExecutor() {
+        return loadingExecutor;
+    }
+
+    /**
+     * Retourne le monde physique partagé par les niveaux, créé au premier appel.
+     * Chaque niveau le vide avant d'y créer ses corps.
+     *
+     * @return Le monde physique.
+     */
+    public World getWorld() {
+        if (world == null) {
+            world = LevelSimulation.createWorld();
+        }
+        return world;
+    }
+
+    /**
+     * Retourne les ressources graphiques partagées par les niveaux, créées au premier appel.
+     *
+     * @return Les ressources graphiques partagées.
+     */
+    public RenderContext getRenderContext() {
+        if (renderContext == null) {
+            renderContext = new RenderContext();
+        }
+        return renderContext;
+    }
+
+    /**
+     * Libère les cartes chargées, les ressources partagées par les niveaux, les textures des entités et les sons,
+     * et arrête le thread de chargement. La dernière sauvegarde en attente est écrite, avec une attente bornée.
+     */
+    public void dispose() {
+        autosave.shutdown(AUTOSAVE_SHUTDOWN_TIMEOUT_MILLIS);
+        assetManager.dispose();
+        loadingExecutor.dispose();
+        if (renderContext != null) {
+            renderContext.dispose();
+        }
+        if (world != null) {
+            entityFactory.clearEntities();
+            ResourceTracker.dispose(world);
+        }
+        entityFactory.dispose();
+        soundFactory.dispose();
+    }
+
     /**
      * Récupère le niveau actuel.
      *
@@ -154,13 +436,33 @@ public class GameManager {
 
     /**
      * Configure les commandes du joueur en fonction des touches définies dans les paramètres.
+     * Le relâchement d'une touche de déplacement arrête le joueur si l'autre n'est pas enfoncée.
      *
      * @param player Le joueur pour lequel les commandes sont configurées.
      */
     public void setupCommands(Player player) {
-        commands.put(keyBindings.getMoveLeftKey(), new MoveLeftCommand(player));
-        commands.put(keyBindings.getMoveRightKey(), new MoveRightCommand(player));
-        commands.put(keyBindings.getJumpKey(), new JumpCommand(player));
+        int leftKey = keyBindings.getKey(GameAction.MOVE_LEFT);
+        int rightKey = keyBindings.getKey(GameAction.MOVE_RIGHT);
+        Command stop = new StopCommand(player);
+        Command stopIfIdle = () -> {
+            if (!commandTable.isHeld(leftKey) && !commandTable.isHeld(rightKey)) {
+                stop.execute();
+            }
+        };
+
+        commandTable.clear();
+        commandTable.bind(leftKey, new MoveLeftCommand(player), stopIfIdle);
+        commandTable.bind(rightKey, new MoveRightCommand(player), stopIfIdle);
+        commandTable.bind(keyBindings.getKey(GameAction.JUMP), new JumpCommand(player), null);
+    }
+
+    /**
+     * Récupère la table des commandes du joueur, configurée par {@link #setupCommands(Player)}.
+     *
+     * @return La table des commandes.
+     */
+    public CommandTable getCommandTable() {
+        return commandTable;
     }
 
     /**
@@ -245,14 +547,69 @@ public class GameManager {
     }
 
     /**
-     * Sauvegarde l'état actuel du jeu (niveau et pièces).
+     * Définit l'emplacement de sauvegarde de la partie en cours.
+     *
+     * @param saveSlot Le numéro de l'emplacement (à partir de 0).
+     */
+    public void setSaveSlot(int saveSlot) {
+        this.saveSlot = saveSlot;
+    }
+
+    /**
+     * Récupère l'emplacement de sauvegarde de la partie en cours.
+     *
+     * @return Le numéro de l'emplacement (à partir de 0).
+     */
+    public int getSaveSlot() {
+        return saveSlot;
+    }
+
+    /**
+     * Définit le temps de jeu total de la partie, par exemple à la reprise d'une sauvegarde.
+     *
+     * @param playTimeMillis Le temps de jeu (en millisecondes).
+     */
+    public void setPlayTimeMillis(long playTimeMillis) {
+        this.playTimeMillis = playTimeMillis;
+    }
+
+    /**
+     * Ajoute le temps d'une frame au temps de jeu total. Appelée par l'écran du niveau en cours.
+     *
+     * @param delta Le temps écoulé depuis la dernière frame (en secondes).
+     */
+    public void addPlayTime(float delta) {
+        playTimeMillis += delta * 1000.0;
+    }
+
+    /**
+     * Sauvegarde l'état actuel du jeu (niveau et pièces) dans l'emplacement de la partie en cours.
      *
      * @param level Le niveau actuel.
      * @param coin Le nombre de pièces du joueur.
      */
     public void saveGame(Level level, int coin) {
-        SaveData saveData = new SaveData(level, coin);
-        SaveManager.saveGame(saveData);
+        autosave.submit(saveSlot, createSnapshot(level, coin));
+    }
+
+    /**
+     * Sauvegarde la progression actuelle (niveau en cours, pièces et meilleurs résultats) en arrière-plan.
+     * Les demandes rapprochées sont regroupées en une seule écriture.
+     */
+    public void autosave() {
+        saveGame(currentLevel, coin);
+    }
+
+    /**
+     * Crée un instantané de la progression, indépendant de l'état du jeu, pour le thread de sauvegarde.
+     */
+    private SaveData createSnapshot(Level level, int coin) {
+        SaveData snapshot = new SaveData(level, coin);
+        snapshot.setPlayTimeMillis((long) playTimeMillis);
+        for (LevelStats stats : levelStats.values()) {
+            snapshot.getLevelStats().add(new LevelStats(stats.getLevelPath(), stats.getBestCoins(), stats.getBestTimeMillis()));
+        }
+        return snapshot;
     }
 
     /**
@@ -1,121 +1,48 @@
 package com.mygame.controller;
 
 import com.badlogic.gdx.InputProcessor;
-import com.mygame.config.KeyBindings;
-import com.mygame.model.entities.Player;
-import com.mygame.controller.commands.*;
 
 /**
  * Classe responsable de la gestion des entrées utilisateur dans le jeu, telles que les
  * touches du clavier et les commandes associées au mouvement du joueur.
  * Cette classe implémente l'interface {@link InputProcessor} de LibGDX pour intercepter
  * les événements de touches et les relier aux actions du joueur.
+ * Les commandes sont trouvées dans la {@link CommandTable} partagée avec le {@link GameManager},
+ * directement par le code de la touche.
  */
 public class InputHandler implements InputProcessor {
 
-    private Player player;
-    private KeyBindings keyBindings;
-    private Command moveRightCommand;
-    private Command moveLeftCommand;
-    private Command jumpCommand;
-    private Command stopMovementCommand;
-
-    private boolean isMovingRight = false;
-    private boolean isMovingLeft = false;
-    private boolean isJumping = false;
+    private final CommandTable commandTable;
 
     /**
      * Constructeur de la classe InputHandler.
      *
-     * @param player Le joueur pour lequel les entrées seront traitées.
-     */
-    public InputHandler(Player player) {
-        this.player = player;
-        this.keyBindings = new KeyBindings(); // Initialisation avec les touches par défaut
-        updateCommands(); // Initialiser les commandes
-    }
-
-    /**
-     * Met à jour les commandes en fonction des nouvelles touches définies dans les paramètres
-     * (re-mappées par l'utilisateur).
-     *
-     * @param keyBindings Les nouvelles configurations de touches.
-     */
-    public void updateKeyBindings(KeyBindings keyBindings) {
-        this.keyBindings = keyBindings;
-        updateCommands();  // Mettre à jour les commandes
-    }
-
-    /**
-     * Met à jour les objets de commande pour chaque action possible du joueur (mouvement, saut, etc.)
+     * @param commandTable La table des commandes du joueur, configurée par {@link GameManager#setupCommands}.
      */
-    private void updateCommands() {
-        moveRightCommand = new MoveRightCommand(player);
-        moveLeftCommand = new MoveLeftCommand(player);
-        jumpCommand = new JumpCommand(player);
-        stopMovementCommand = new StopCommand(player);  // Ajouter la commande pour arrêter le mouvement
+    public InputHandler(CommandTable commandTable) {
+        this.commandTable = commandTable;
     }
 
     /**
      * Gère l'événement de la touche enfoncée (keyDown).
      *
      * @param keycode Le code de la touche pressée.
-     * @return false si l'événement a été traité, true sinon.
+     * @return true si une commande est associée à la touche, false sinon.
      */
     @Override
     public boolean keyDown(int keycode) {
-        // Gestion du mouvement à droite
-        if (keycode == keyBindings.getMoveRightKey()) {
-            if (!isMovingRight) {  // Ne pas exécuter si déjà en mouvement vers la droite
-                isMovingRight = true;
-                moveRightCommand.execute();
-            }
-        }
-
-        // Gestion du mouvement à gauche
-        if (keycode == keyBindings.getMoveLeftKey()) {
-            if (!isMovingLeft) {  // Ne pas exécuter si déjà en mouvement vers la gauche
-                isMovingLeft = true;
-                moveLeftCommand.execute();
-            }
-        }
-
-        // Gestion du saut
-        if (keycode == keyBindings.getJumpKey() && !isJumping) {
-            isJumping = true;
-            jumpCommand.execute();
-        }
-
-        return false;
+        return commandTable.keyDown(keycode);
     }
 
     /**
      * Gère l'événement de la touche relâchée (keyUp).
      *
      * @param keycode Le code de la touche relâchée.
-     * @return false si l'événement a été traité, true sinon.
+     * @return true si une commande est associée à la touche, false sinon.
      */
     @Override
     public boolean keyUp(int keycode) {
-        // Gérer le relâchement des touches de mouvement
-        if (keycode == keyBindings.getMoveRightKey()) {
-            isMovingRight = false;
-        }
-        if (keycode == keyBindings.getMoveLeftKey()) {
-            isMovingLeft = false;
-        }
-
-        // Si aucune touche de mouvement n'est pressée, arrêter le mouvement
-        if (!isMovingRight && !isMovingLeft) {
-            stopMovementCommand.execute();
-        }
-
-        // Gérer le relâchement de la touche de saut
-        if (keycode == keyBindings.getJumpKey()) {
-            isJumping = false;
-        }
-
-        return false;
+        return commandTable.keyUp(keycode);
     }
 
     /**
@@ -1,5 +1,6 @@
 package com.mygame.controller.enemymovement;
 
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 
@@ -7,8 +8,15 @@ import com.badlogic.gdx.physics.box2d.Body;
  * Implémentation de la stratégie de mouvement pour un ennemi volant, qui suit un
  * chemin en forme de "8" horizontal. L'ennemi se déplace à la fois sur l'axe X et
  * l'axe Y de manière sinusoïdale pour créer un mouvement fluide et circulaire.
+ * <p>
+ * Le corps de l'ennemi est cinématique : il est déplacé par sa vitesse et non par téléportation
+ * ({@code setTransform}), ce qui laisse Box2D détecter les contacts de façon continue. Une période
+ * complète de la trajectoire est précalculée dans une table à la construction.
+ * </p>
  */
 public class FlyingMovement implements MovementStrategy {
+    private static final int PATH_SAMPLES = 128; // Nombre d'échantillons de la trajectoire sur une période
+
     private float speed;
     private float patrolWidth;
     private float patrolHeight;
@@ -18,6 +26,11 @@ public class FlyingMovement implements MovementStrategy {
     private float frequencyX;
     private float frequencyY;
 
+    private final float period;                                 // Durée d'une période de la trajectoire (0 si immobile)
+    private final float[] pathX = new float[PATH_SAMPLES + 1];  // Positions X échantillonnées sur une période
+    private final float[] pathY = new float[PATH_SAMPLES + 1];  // Positions Y échantillonnées sur une période
+    private boolean placed;                                     // Vrai une fois le corps placé sur sa trajectoire
+
     /**
      * Constructeur pour initialiser le mouvement de l'ennemi volant.
      *
@@ -36,11 +49,33 @@ public class FlyingMovement implements MovementStrategy {
         this.time = 0;
         this.frequencyX = speed;
         this.frequencyY = speed;
+        this.period = speed != 0 ? MathUtils.PI2 / Math.abs(speed) : 0;
+        buildPath();
+    }
+
+    /**
+     * Précalcule une période de la trajectoire. Les deux fréquences étant égales, la trajectoire
+     * se répète exactement à chaque période.
+     */
+    private void buildPath() {
+        for (int i = 0; i <= PATH_SAMPLES; i++) {
+            float t = period * i / PATH_SAMPLES;
+
+            float offsetX = (float) Math.sin(t * frequencyX) * patrolWidth / 2;
+            float offsetY = (float) Math.cos(t * frequencyY) * patrolHeight / 2;
+
+            float x = startX + patrolWidth / 2 + offsetX;
+            float y = startY + offsetY + patrolHeight / 2;
+
+            pathX[i] = Math.max(startX, Math.min(x, startX + patrolWidth));
+            pathY[i] = Math.max(startY - patrolHeight, Math.min(y, startY + patrolHeight));
+        }
     }
 
     /**
-     * Met à jour la position de l'ennemi en fonction de son mouvement sinusoïdal dans
-     * la zone de patrouille.
+     * Met à jour la vitesse de l'ennemi pour qu'il atteigne, à la fin du pas, le point de la trajectoire
+     * correspondant au temps écoulé. Viser le prochain point plutôt qu'appliquer la dérivée évite que
+     * l'ennemi ne s'écarte peu à peu de sa trajectoire.
      *
      * @param body L'objet Body représentant l'ennemi.
      * @param deltaTime Le temps écoulé depuis la dernière mise à jour.
@@ -49,19 +84,75 @@ public class FlyingMovement implements MovementStrategy {
     public void updateMovement(Body body, float deltaTime) {
         if (body == null) return;
 
+        if (!placed) {
+            // Première mise à jour : placer l'ennemi sur sa trajectoire
+            placed = true;
+            body.setTransform(sampleX(time), sampleY(time), body.getAngle());
+        }
+
         time += deltaTime;
+        if (period > 0 && time >= period) {
+            time -= period * (int) (time / period);
+        }
+
+        if (deltaTime <= 0) {
+            body.setLinearVelocity(0, 0);
+            return;
+        }
 
         Vector2 position = body.getPosition();
+        body.setLinearVelocity((sampleX(time) - position.x) / deltaTime, (sampleY(time) - position.y) / deltaTime);
+    }
 
-        float offsetX = (float) Math.sin(time * frequencyX) * patrolWidth / 2;
-        float offsetY = (float) Math.cos(time * frequencyY) * patrolHeight / 2;
+    /**
+     * La position ne dépend que du temps écoulé : il suffit de faire avancer le temps pendant le sommeil.
+     *
+     * @param deltaTime La durée écoulée pendant le sommeil.
+     */
+    @Override
+    public void skip(float deltaTime) {
+        time += deltaTime;
+        if (period > 0 && time >= period) {
+            time -= period * (int) (time / period);
+        }
+    }
+
+    /**
+     * Replace le corps sur le point de la trajectoire atteint pendant le sommeil.
+     *
+     * @param body Le corps physique de l'ennemi qui se réveille.
+     */
+    @Override
+    public void wake(Body body) {
+        if (body == null) return;
+        placed = true;
+        body.setTransform(sampleX(time), sampleY(time), body.getAngle());
+        body.setLinearVelocity(0, 0);
+    }
 
-        float newX = startX + patrolWidth / 2 + offsetX;
-        float newY = startY + offsetY + patrolHeight / 2;
+    /**
+     * Interpole la position X de la trajectoire dans la table précalculée.
+     */
+    private float sampleX(float t) {
+        return sample(pathX, t);
+    }
 
-        newX = Math.max(startX, Math.min(newX, startX + patrolWidth));
-        newY = Math.max(startY - patrolHeight, Math.min(newY, startY + patrolHeight));
+    /**
+     * Interpole la position Y de la trajectoire dans la table précalculée.
+     */
+    private float sampleY(float t) {
+        return sample(pathY, t);
+    }
 
-        body.setTransform(newX, newY, body.getAngle());
+    /**
+     * Interpole linéairement une table de la trajectoire au temps donné (compris dans une période).
+     */
+    private float sample(float[] path, float t) {
+        if (period <= 0) {
+            return path[0];
+        }
+        float index = t / period * PATH_SAMPLES;
+        int i = Math.min((int) index, PATH_SAMPLES - 1);
+        return path[i] + (path[i + 1] - path[i]) * (index - i);
     }
 }
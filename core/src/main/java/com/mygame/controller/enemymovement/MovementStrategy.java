@@ -13,4 +13,23 @@ public interface MovementStrategy  {
      * @param deltaTime Le temps écoulé depuis la dernière mise à jour.
      */
     void updateMovement(Body body, float deltaTime);
+
+    /**
+     * Fait avancer le mouvement sans toucher au corps physique, pendant que l'ennemi est endormi (hors de la vue).
+     * Le mouvement est rattrapé lors du réveil par {@link #wake(Body)}, pour que la patrouille reste synchronisée.
+     *
+     * @param deltaTime La durée écoulée pendant le sommeil.
+     */
+    default void skip(float deltaTime) {
+        // Par défaut, le mouvement est simplement suspendu
+    }
+
+    /**
+     * Replace le corps physique à la position que le mouvement aurait atteinte pendant le sommeil.
+     *
+     * @param body Le corps physique de l'ennemi qui se réveille.
+     */
+    default void wake(Body body) {
+        // Par défaut, l'ennemi reprend là où il s'était arrêté
+    }
 }
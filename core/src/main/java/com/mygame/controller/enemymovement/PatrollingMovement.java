@@ -1,6 +1,7 @@
 package com.mygame.controller.enemymovement;
 
 import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 
 /**
@@ -17,6 +18,7 @@ public class PatrollingMovement implements MovementStrategy {
     private float patrolWidth;  // Largeur de la zone de patrouille (distance parcourue de part et d'autre du point de départ)
     private float startX;  // Position de départ en X de l'ennemi
     private boolean movingRight;  // Indicateur de direction : true si l'ennemi va vers la droite, false vers la gauche
+    private float skippedTime;  // Durée passée endormi, rattrapée au réveil
 
     /**
      * Constructeur de la classe {@code PatrollingMovement}.
@@ -61,4 +63,40 @@ public class PatrollingMovement implements MovementStrategy {
         // Mettre à jour la vitesse du corps
         body.setLinearVelocity(newVelocityX, velocity.y);
     }
+
+    /**
+     * Accumule la durée passée endormi.
+     *
+     * @param deltaTime La durée écoulée pendant le sommeil.
+     */
+    @Override
+    public void skip(float deltaTime) {
+        skippedTime += deltaTime;
+    }
+
+    /**
+     * Calcule la position atteinte après les allers-retours effectués pendant le sommeil
+     * (distance parcourue à vitesse constante, réfléchie sur les bornes de la patrouille) et y replace le corps.
+     *
+     * @param body Le corps physique de l'ennemi qui se réveille.
+     */
+    @Override
+    public void wake(Body body) {
+        float distance = skippedTime * speed;
+        skippedTime = 0;
+        if (body == null || patrolWidth <= 0 || distance <= 0) {
+            return;
+        }
+
+        // Position sur un aller-retour complet de longueur 2 * patrolWidth, l'origine étant startX en allant vers la droite
+        Vector2 position = body.getPosition();
+        float offset = MathUtils.clamp(position.x - startX, 0, patrolWidth);
+        float cycle = (movingRight ? offset : 2 * patrolWidth - offset) + distance;
+        cycle %= 2 * patrolWidth;
+
+        movingRight = cycle < patrolWidth;
+        float newX = startX + (movingRight ? cycle : 2 * patrolWidth - cycle);
+        body.setTransform(newX, position.y, body.getAngle());
+        body.setLinearVelocity(movingRight ? speed : -speed, 0);
+    }
 }
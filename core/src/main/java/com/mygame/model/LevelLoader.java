@@ -4,41 +4,48 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
-import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
 import com.mygame.common.EntityFactory;
 import com.mygame.common.SoundFactory;
 import com.mygame.controller.GameManager;
 import com.mygame.controller.InputHandler;
 import com.mygame.model.maps.GameMap;
 import com.mygame.model.maps.Level;
+import com.mygame.model.maps.LevelBlueprint;
 import com.mygame.model.maps.MapLoader;
 import com.mygame.model.entities.GameEntity;
 import com.mygame.utils.CompositeContactListener;
 import com.mygame.utils.ContactListener.CollectibleListener;
 import com.mygame.utils.ContactListener.ExitListener;
 import com.mygame.utils.ContactListener.LoseListener;
-import com.badlogic.gdx.physics.box2d.*;
+import com.mygame.view.RenderContext;
 
 /**
  * La classe {@code LevelLoader} est responsable du chargement et de la gestion des niveaux dans le jeu.
  * Elle s'occupe du chargement des cartes, de la gestion des entités, du rendu de la carte et des entités,
  * ainsi que de la gestion de la caméra.
+ * <p>
+ * Le monde physique, le {@code SpriteBatch} et le rendu de carte sont fournis par le {@link GameManager}
+ * et réutilisés d'un niveau à l'autre : ils ne sont pas libérés avec le niveau.
+ * </p>
  */
 public class LevelLoader {
     private GameManager gameManager;  // Gestionnaire de jeu
     private MapLoader mapLoader;  // Chargeur de carte
-    private GameMap gameMap;  // Carte du jeu
+    private LevelSimulation simulation;  // Simulation physique du niveau (carte, monde et entités)
     private Level level;  // Niveau actuel
     private String mapPath;  // Chemin de la carte
     private SoundFactory soundFactory;
     private EntityFactory entityFactory;  // Factory d'entités
     private OrthographicCamera camera;  // Caméra pour la vue du jeu
-    private SpriteBatch spriteBatch;  // SpriteBatch pour dessiner les entités
-    private OrthogonalTiledMapRenderer mapRenderer;  // Rendu de la carte Tiled
+    private SpriteBatch spriteBatch;  // SpriteBatch partagé pour dessiner les entités
+    private OrthogonalTiledMapRenderer mapRenderer;  // Rendu partagé de la carte Tiled
     private CompositeContactListener compositeContactListener;  // Gestionnaire des contacts physiques
     private LoseListener loseListener;  // Écouteur des événements de perte
     private ExitListener exitListener;  // Écouteur des événements de sortie
     private CollectibleListener collectibleListener;  // Écouteur des événements de collecte
+    private float activeMargin = 8f;  // Marge autour de la vue au-delà de laquelle les ennemis sont endormis (en tuiles)
+    private final Array<GameEntity> visibleEntities = new Array<>(false, 32, GameEntity.class);  // Entités visibles, réutilisées à chaque frame
 
     /**
      * Constructeur de la classe {@code LevelLoader}.
@@ -48,40 +55,53 @@ public class LevelLoader {
      * @param level Le niveau à charger.
      */
     public LevelLoader(GameManager gameManager, Level level) {
+        this(gameManager, level, null);
+    }
+
+    /**
+     * Constructeur de la classe {@code LevelLoader} à partir d'un niveau préparé par le
+     * {@link com.mygame.view.screen.LoadingScreen} : la carte est déjà chargée et ses obstacles fusionnés.
+     *
+     * @param gameManager Le gestionnaire du jeu.
+     * @param level Le niveau à charger.
+     * @param blueprint Le niveau préparé, ou null pour charger la carte ici.
+     */
+    public LevelLoader(GameManager gameManager, Level level, LevelBlueprint blueprint) {
         mapLoader = new MapLoader();
         this.level = level;
         this.mapPath = level.getPath();
 
-        // Charger la carte à partir du chemin
-        gameMap = new GameMap(mapLoader.loadMap(mapPath), new World(new Vector2(0, -15f), true));
-
         // Initialiser le contrôleur de jeu et la factory d'entités
         this.gameManager = gameManager;
         this.entityFactory = gameManager.getEntityFactory();
         this.soundFactory = gameManager.getSoundFactory();
 
-        // Charger les entités du niveau
-        entityFactory.loadEntitiesFromMap(gameMap);
+        // Charger la carte et les entités du niveau dans le monde physique réutilisé
+        if (blueprint == null) {
+            blueprint = new LevelBlueprint(mapPath, mapLoader.loadMap(mapPath)); // Carte libérée avec le mapLoader
+        }
+        simulation = new LevelSimulation(level, blueprint, entityFactory, soundFactory, gameManager.getWorld());
         gameManager.setupCommands(entityFactory.getPlayer());
         gameManager.setNeedSave(true);
-        Gdx.input.setInputProcessor(new InputHandler(entityFactory.getPlayer()));
-        loseListener = new LoseListener(gameManager.getGame(), this, gameManager);
-        collectibleListener = new CollectibleListener(entityFactory,soundFactory);
-        exitListener = new ExitListener(gameManager.getGame(), this, gameManager);
+        Gdx.input.setInputProcessor(new InputHandler(gameManager.getCommandTable()));
+        loseListener = new LoseListener(gameManager.getGame(), gameManager);
+        collectibleListener = simulation.getCollectibleListener();
+        exitListener = new ExitListener(this, gameManager);
 
         this.compositeContactListener = new CompositeContactListener(loseListener, collectibleListener, exitListener);
-        getMap().getWorld().setContactListener(compositeContactListener);
+        simulation.setContactListener(compositeContactListener);
 
-        // Initialiser la caméra et le SpriteBatch
+        // Initialiser la caméra et récupérer le SpriteBatch partagé
+        RenderContext renderContext = gameManager.getRenderContext();
         camera = new OrthographicCamera();
-        spriteBatch = new SpriteBatch();
+        spriteBatch = renderContext.getBatch();
 
         // Configurer la caméra pour un ratio 16:9
         camera.setToOrtho(false, 16, 9);  // Ajustez si nécessaire pour votre jeu
         camera.update();
 
-        // Initialiser le mapRenderer pour afficher la carte
-        mapRenderer = new OrthogonalTiledMapRenderer(gameMap.getMap(), 1 / 16f);
+        // Configurer le mapRenderer partagé pour afficher la carte
+        mapRenderer = renderContext.getMapRenderer(simulation.getMap().getMap());
     }
 
     /**
@@ -108,7 +128,25 @@ public class LevelLoader {
      * @return La carte.
      */
     public GameMap getMap() {
-        return gameMap;
+        return simulation.getMap();
+    }
+
+    /**
+     * Retourne la simulation physique du niveau.
+     *
+     * @return La simulation du niveau.
+     */
+    public LevelSimulation getSimulation() {
+        return simulation;
+    }
+
+    /**
+     * Définit la marge autour de la vue de la caméra au-delà de laquelle les ennemis sont endormis.
+     *
+     * @param activeMargin La marge (en tuiles).
+     */
+    public void setActiveMargin(float activeMargin) {
+        this.activeMargin = activeMargin;
     }
 
     /**
@@ -127,9 +165,20 @@ public class LevelLoader {
      * @param player L'entité représentant le joueur.
      */
     public void updateCamera(GameEntity player) {
-        // Récupérer la position du joueur
-        float playerX = player.getX();
-        float playerY = player.getY();
+        updateCamera(player, 1f);
+    }
+
+    /**
+     * Met à jour la position de la caméra pour suivre la position interpolée du joueur.
+     * La caméra suit ainsi exactement le sprite affiché, sans saccade entre deux pas de simulation.
+     *
+     * @param player L'entité représentant le joueur.
+     * @param alpha Le facteur d'interpolation fourni par l'horloge de simulation (entre 0 et 1).
+     */
+    public void updateCamera(GameEntity player, float alpha) {
+        // Récupérer la position interpolée du joueur
+        float playerX = player.getInterpolatedX(alpha);
+        float playerY = player.getInterpolatedY(alpha);
 
         // Calculer la position de la caméra pour centrer sur le joueur
         float cameraX = playerX - camera.viewportWidth / 2;
@@ -139,20 +188,24 @@ public class LevelLoader {
         if (cameraX < 0) {
             cameraX = 0;
         }
-        if (cameraX > gameMap.getMapWidth() - camera.viewportWidth) {
-            cameraX = gameMap.getMapWidth() - camera.viewportWidth;
+        if (cameraX > getMap().getMapWidth() - camera.viewportWidth) {
+            cameraX = getMap().getMapWidth() - camera.viewportWidth;
         }
 
         if (cameraY < 0) {
             cameraY = 0;
         }
-        if (cameraY > gameMap.getMapHeight() - camera.viewportHeight) {
-            cameraY = gameMap.getMapHeight() - camera.viewportHeight;
+        if (cameraY > getMap().getMapHeight() - camera.viewportHeight) {
+            cameraY = getMap().getMapHeight() - camera.viewportHeight;
         }
 
         // Mettre à jour la position de la caméra
         camera.position.set(cameraX + camera.viewportWidth / 2, cameraY + camera.viewportHeight / 2, 0);
         camera.update();  // Appliquer la mise à jour de la caméra
+
+        // Les ennemis proches de la vue restent éveillés, les autres sont endormis jusqu'à ce que la vue s'approche
+        simulation.getGrid().setActiveRegion(cameraX - activeMargin, cameraY - activeMargin,
+            camera.viewportWidth + 2 * activeMargin, camera.viewportHeight + 2 * activeMargin);
     }
 
     /**
@@ -164,39 +217,85 @@ public class LevelLoader {
         return this.level;
     }
 
+    /**
+     * Avance la simulation du niveau d'un pas de durée fixe.
+     * Les positions courantes des entités sont mémorisées pour l'interpolation, la logique des entités
+     * est mise à jour, puis le monde physique avance et les contacts du pas sont traités.
+     *
+     * @param deltaTime La durée fixe du pas de simulation (en secondes).
+     */
+    public void step(float deltaTime) {
+        simulation.step(deltaTime);
+    }
+
+    /**
+     * Indique si la partie en cours est terminée (mort du joueur ou sortie atteinte) depuis le dernier pas.
+     * Dans ce cas, il est inutile de poursuivre la simulation avant {@link #applyOutcome()}.
+     *
+     * @return {@code true} si une issue est en attente.
+     */
+    public boolean hasOutcome() {
+        return loseListener.isGameOver() || exitListener.isLevelCompleted();
+    }
+
+    /**
+     * Applique l'issue de la partie, une seule fois par frame et en dehors du pas physique.
+     * La mort du joueur l'emporte sur la sortie si les deux se sont produites pendant la même frame.
+     *
+     * @return {@code true} si l'écran a été changé, sinon {@code false}.
+     */
+    public boolean applyOutcome() {
+        if (loseListener.update()) {
+            return true;
+        }
+        return exitListener.update();
+    }
+
     /**
      * Effectue le rendu du niveau et des entités à l'écran.
      */
     public void render() {
-        // Utiliser la caméra pour la vue du niveau
-        spriteBatch.setProjectionMatrix(camera.combined);
-        spriteBatch.begin();
-        exitListener.update();
-        loseListener.update();
+        render(1f);
+    }
 
-        // Appliquer la caméra au mapRenderer pour afficher la carte
+    /**
+     * Effectue le rendu du niveau et des entités à l'écran, en interpolant la position des entités
+     * entre les deux derniers pas de simulation.
+     * Seules les entités des cellules de la grille qui recouvrent la vue de la caméra sont dessinées.
+     *
+     * @param alpha Le facteur d'interpolation fourni par l'horloge de simulation (entre 0 et 1).
+     */
+    public void render(float alpha) {
+        // Appliquer la caméra au mapRenderer pour afficher la carte.
+        // Le rendu de carte ouvre et ferme lui-même le SpriteBatch partagé : il doit être appelé batch fermé.
         mapRenderer.setView(camera);
         mapRenderer.render();
 
-        // Dessiner les entités (par exemple, les ennemis, collectables, etc.)
-        for (GameEntity entity : entityFactory.getEntities()) {
-            entity.render(spriteBatch);
-            entity.updatePhysics();
+        // Utiliser la caméra pour la vue du niveau
+        spriteBatch.setProjectionMatrix(camera.combined);
+        spriteBatch.begin();
 
+        // Dessiner les entités visibles (par exemple, les ennemis, collectables, etc.)
+        float viewWidth = camera.viewportWidth * camera.zoom;
+        float viewHeight = camera.viewportHeight * camera.zoom;
+        visibleEntities.clear();
+        simulation.getGrid().query(camera.position.x - viewWidth / 2, camera.position.y - viewHeight / 2,
+            viewWidth, viewHeight, visibleEntities);
+        for (int i = 0; i < visibleEntities.size; i++) {
+            visibleEntities.get(i).render(spriteBatch, alpha);
         }
+        visibleEntities.clear();
         entityFactory.getPlayer().updateSprite();
 
         spriteBatch.end();
     }
 
     /**
-     * Libère les ressources utilisées par le niveau et ses composants.
+     * Libère les ressources propres au niveau.
+     * Le monde physique, le SpriteBatch et le rendu de carte sont partagés et ne sont pas libérés ici.
      */
     public void dispose() {
-        gameMap.dispose();
-        // Nettoyer les ressources
-        spriteBatch.dispose();
-        mapRenderer.dispose();
+        simulation.dispose();
         mapLoader.dispose();
     }
 }
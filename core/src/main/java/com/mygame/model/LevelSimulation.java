@@ -0,0 +1,269 @@
+package com.mygame.model;
+
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+import com.mygame.common.EntityFactory;
+import com.mygame.common.SoundFactory;
+import com.mygame.model.entities.Enemy;
+import com.mygame.model.entities.GameEntity;
+import com.mygame.model.entities.Player;
+import com.mygame.model.maps.GameMap;
+import com.mygame.model.maps.Level;
+import com.mygame.model.maps.LevelBlueprint;
+import com.mygame.utils.CompositeContactListener;
+import com.mygame.utils.ContactListener.CollectibleListener;
+import com.mygame.utils.ResourceTracker;
+
+/**
+ * La classe {@code LevelSimulation} contient la partie purement physique d'un niveau :
+ * la carte, le monde Box2D et les entités.
+ * <p>
+ * Elle ne dépend d'aucune ressource graphique (pas de {@code SpriteBatch}, de rendu de carte ni de gestion des entrées),
+ * ce qui permet de l'utiliser aussi bien par le {@link LevelLoader} pendant le jeu que sans affichage,
+ * par exemple pour des tests automatisés, des bots ou des tests de charge.
+ * </p>
+ */
+public class LevelSimulation {
+
+    /**
+     * Nombre de pas de simulation par seconde.
+     */
+    public static final int TICK_RATE = 60;
+
+    /**
+     * Durée d'un pas de simulation (en secondes).
+     */
+    public static final float TIME_STEP = 1f / TICK_RATE;
+
+    private static final float GRAVITY = -15f; // Gravité verticale du monde physique
+
+    private final Level level;                              // Niveau simulé
+    private final GameMap gameMap;                          // Carte et monde physique
+    private final EntityFactory entityFactory;              // Factory contenant les entités du niveau
+    private final CollectibleListener collectibleListener;  // Écouteur des événements de collecte
+    private final SpatialGrid grid;                         // Grille des entités, pour le rendu et la zone active
+    private CompositeContactListener contactListener;       // Écouteur des contacts du monde physique
+    private long tickCount;                                 // Nombre de pas de simulation effectués
+
+    /**
+     * Constructeur de la simulation d'un niveau.
+     * Crée le monde physique, les obstacles de la carte et les entités du niveau.
+     *
+     * @param level Le niveau simulé.
+     * @param map La carte Tiled déjà chargée du niveau.
+     * @param entityFactory La factory utilisée pour créer les entités.
+     * @param soundFactory La factory de sons utilisée lors des collectes.
+     */
+    public LevelSimulation(Level level, TiledMap map, EntityFactory entityFactory, SoundFactory soundFactory) {
+        this(level, map, true, entityFactory, soundFactory);
+    }
+
+    /**
+     * Constructeur de la simulation d'un niveau permettant de choisir le mode de création des obstacles,
+     * par exemple pour comparer les corps fusionnés et un corps par tuile.
+     *
+     * @param level Le niveau simulé.
+     * @param map La carte Tiled déjà chargée du niveau.
+     * @param mergeTiles {@code true} pour fusionner les tuiles adjacentes, {@code false} pour créer un corps par tuile.
+     * @param entityFactory La factory utilisée pour créer les entités.
+     * @param soundFactory La factory de sons utilisée lors des collectes.
+     */
+    public LevelSimulation(Level level, TiledMap map, boolean mergeTiles, EntityFactory entityFactory, SoundFactory soundFactory) {
+        this(level, new GameMap(map, createWorld(), mergeTiles), entityFactory, soundFactory);
+    }
+
+    /**
+     * Constructeur de la simulation d'un niveau préparé par le {@link com.mygame.view.screen.LoadingScreen}.
+     * Seuls le monde physique, les corps des obstacles et les entités sont créés.
+     *
+     * @param level Le niveau simulé.
+     * @param blueprint Le niveau préparé (carte chargée et obstacles fusionnés).
+     * @param entityFactory La factory utilisée pour créer les entités.
+     * @param soundFactory La factory de sons utilisée lors des collectes.
+     */
+    public LevelSimulation(Level level, LevelBlueprint blueprint, EntityFactory entityFactory, SoundFactory soundFactory) {
+        this(level, new GameMap(blueprint, createWorld()), entityFactory, soundFactory);
+    }
+
+    /**
+     * Constructeur de la simulation d'un niveau préparé, dans un monde physique réutilisé d'un niveau à l'autre.
+     * Les entités et les corps du niveau précédent sont détruits avant la création du nouveau niveau ;
+     * le monde n'est pas libéré par {@link #dispose()}.
+     *
+     * @param level Le niveau simulé.
+     * @param blueprint Le niveau préparé (carte chargée et obstacles fusionnés).
+     * @param entityFactory La factory utilisée pour créer les entités.
+     * @param soundFactory La factory de sons utilisée lors des collectes.
+     * @param world Le monde physique partagé, créé par {@link #createWorld()}.
+     */
+    public LevelSimulation(Level level, LevelBlueprint blueprint, EntityFactory entityFactory, SoundFactory soundFactory, World world) {
+        this(level, new GameMap(blueprint, resetWorld(world, entityFactory), false), entityFactory, soundFactory);
+    }
+
+    /**
+     * Constructeur commun : crée les entités du niveau sur la carte fournie.
+     */
+    private LevelSimulation(Level level, GameMap gameMap, EntityFactory entityFactory, SoundFactory soundFactory) {
+        this.level = level;
+        this.entityFactory = entityFactory;
+        this.gameMap = gameMap;
+
+        entityFactory.loadEntitiesFromMap(gameMap);
+        grid = new SpatialGrid(gameMap.getMapWidth(), gameMap.getMapHeight());
+        grid.rebuild(entityFactory.getEntities());
+        collectibleListener = new CollectibleListener(entityFactory, soundFactory);
+        setContactListener(new CompositeContactListener(null, collectibleListener, null));
+    }
+
+    /**
+     * Crée un monde physique vide avec la gravité du jeu.
+     *
+     * @return Le nouveau monde physique.
+     */
+    public static World createWorld() {
+        return ResourceTracker.track(new World(new Vector2(0, GRAVITY), true));
+    }
+
+    /**
+     * Vide un monde physique pour le réutiliser : les entités du niveau précédent sont libérées par leur factory,
+     * puis les corps restants (obstacles, sortie, bordures) sont détruits et la gravité est rétablie.
+     *
+     * @param world Le monde à vider.
+     * @param entityFactory La factory qui contient les entités du niveau précédent.
+     * @return Le monde vidé.
+     */
+    private static World resetWorld(World world, EntityFactory entityFactory) {
+        entityFactory.clearEntities();
+
+        Array<Body> bodies = new Array<>(false, world.getBodyCount(), Body.class);
+        world.getBodies(bodies);
+        for (int i = 0; i < bodies.size; i++) {
+            world.destroyBody(bodies.get(i));
+        }
+        world.setContactListener(null);
+        world.setGravity(new Vector2(0, GRAVITY));
+        return world;
+    }
+
+    /**
+     * Remplace l'écouteur de contacts du monde physique, par exemple par un écouteur composite
+     * qui gère aussi la défaite et la sortie du niveau.
+     *
+     * @param contactListener Le nouvel écouteur de contacts.
+     */
+    public void setContactListener(CompositeContactListener contactListener) {
+        this.contactListener = contactListener;
+        gameMap.getWorld().setContactListener(contactListener);
+    }
+
+    /**
+     * Avance la simulation du niveau d'un pas de durée fixe.
+     * Les positions courantes des entités sont mémorisées pour l'interpolation, la logique des entités
+     * est mise à jour, puis le monde physique avance et les contacts enregistrés pendant le pas sont traités,
+     * dans leur ordre d'arrivée. La grille des entités est enfin synchronisée avec les nouvelles positions.
+     * <p>
+     * Les ennemis situés hors de la zone active de la grille sont endormis : leur corps est désactivé et leur
+     * mouvement avance sans le monde physique. Ils sont réveillés, à la bonne position, dès que la zone active les atteint.
+     * </p>
+     *
+     * @param deltaTime La durée du pas de simulation (en secondes).
+     */
+    public void step(float deltaTime) {
+        Array<GameEntity> entities = entityFactory.getEntities();
+        for (int i = 0; i < entities.size; i++) {
+            GameEntity entity = entities.get(i);
+            entity.savePreviousTransform();
+            if (entity instanceof Enemy) {
+                Enemy enemy = (Enemy) entity;
+                if (!grid.isActive(enemy)) {
+                    enemy.sleep(deltaTime);
+                    continue;
+                }
+                enemy.wake();
+            }
+            entity.updatePhysics(deltaTime);
+        }
+
+        World world = gameMap.getWorld();
+        world.step(deltaTime, 2, 2);
+        contactListener.dispatchEvents();
+
+        for (int i = 0; i < entities.size; i++) {
+            grid.update(entities.get(i));
+        }
+        tickCount++;
+    }
+
+    /**
+     * Retourne le niveau simulé.
+     *
+     * @return Le niveau.
+     */
+    public Level getLevel() {
+        return level;
+    }
+
+    /**
+     * Retourne la carte du niveau.
+     *
+     * @return La carte.
+     */
+    public GameMap getMap() {
+        return gameMap;
+    }
+
+    /**
+     * Retourne la factory contenant les entités du niveau.
+     *
+     * @return La factory d'entités.
+     */
+    public EntityFactory getEntityFactory() {
+        return entityFactory;
+    }
+
+    /**
+     * Retourne le joueur du niveau.
+     *
+     * @return Le joueur, ou null si la carte n'en contient pas.
+     */
+    public Player getPlayer() {
+        return entityFactory.getPlayer();
+    }
+
+    /**
+     * Retourne la grille des entités du niveau.
+     *
+     * @return La grille des entités.
+     */
+    public SpatialGrid getGrid() {
+        return grid;
+    }
+
+    /**
+     * Retourne l'écouteur des événements de collecte.
+     *
+     * @return L'écouteur de collecte.
+     */
+    public CollectibleListener getCollectibleListener() {
+        return collectibleListener;
+    }
+
+    /**
+     * Retourne le nombre de pas de simulation effectués depuis la création du niveau.
+     *
+     * @return Le nombre de pas.
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Libère la carte et le monde physique.
+     */
+    public void dispose() {
+        gameMap.dispose();
+    }
+}
@@ -0,0 +1,216 @@
+package com.mygame.model;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.mygame.model.entities.GameEntity;
+
+/**
+ * La classe {@code SpatialGrid} range les entités d'un niveau dans une grille uniforme, en unités de tuiles.
+ * <p>
+ * Chaque entité est placée dans la cellule qui contient le centre de son corps Box2D. La grille permet
+ * de retrouver rapidement les entités proches d'une zone (la vue de la caméra par exemple) sans parcourir
+ * toutes les entités du niveau : le coût d'une requête dépend de la taille de la zone, pas de celle de la carte.
+ * </p>
+ * <p>
+ * Les positions sont synchronisées par {@link #update(GameEntity)} après chaque pas physique. Une entité
+ * dont le corps a été détruit (pièce collectée) est retirée de sa cellule lors de la requête suivante.
+ * </p>
+ */
+public class SpatialGrid {
+
+    /**
+     * Taille d'une cellule de la grille (en tuiles).
+     */
+    public static final int CELL_SIZE = 4;
+
+    /**
+     * Marge ajoutée autour des zones de requête (en tuiles) : une entité est rangée selon son centre,
+     * mais son sprite peut déborder sur la cellule voisine.
+     */
+    private static final float QUERY_MARGIN = 1f;
+
+    private final int columns;                                          // Nombre de colonnes de la grille
+    private final int rows;                                             // Nombre de lignes de la grille
+    private final Array<GameEntity>[] cells;                            // Entités de chaque cellule
+    private final ObjectIntMap<GameEntity> cellOf = new ObjectIntMap<>(); // Cellule courante de chaque entité
+
+    // Zone active (vue de la caméra élargie), en indices de cellules
+    private int activeMinColumn;
+    private int activeMaxColumn;
+    private int activeMinRow;
+    private int activeMaxRow;
+    private boolean activeRegionSet; // Faux tant qu'aucune zone active n'a été définie : tout est alors actif
+
+    /**
+     * Constructeur de la grille.
+     *
+     * @param width La largeur de la carte (en tuiles).
+     * @param height La hauteur de la carte (en tuiles).
+     */
+    @SuppressWarnings("unchecked")
+    public SpatialGrid(int width, int height) {
+        columns = Math.max(1, (width + CELL_SIZE - 1) / CELL_SIZE);
+        rows = Math.max(1, (height + CELL_SIZE - 1) / CELL_SIZE);
+        cells = new Array[columns * rows];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = new Array<>(false, 4, GameEntity.class);
+        }
+    }
+
+    /**
+     * Range toutes les entités fournies dans la grille, en remplaçant le contenu précédent.
+     *
+     * @param entities Les entités du niveau.
+     */
+    public void rebuild(Array<GameEntity> entities) {
+        clear();
+        for (int i = 0; i < entities.size; i++) {
+            update(entities.get(i));
+        }
+    }
+
+    /**
+     * Met à jour la cellule d'une entité d'après la position de son corps Box2D.
+     * L'entité est ajoutée à la grille si elle n'y figure pas encore.
+     *
+     * @param entity L'entité à synchroniser.
+     */
+    public void update(GameEntity entity) {
+        Body body = entity.getBody();
+        if (body == null) {
+            remove(entity);
+            return;
+        }
+
+        Vector2 position = body.getPosition();
+        int cell = cellIndex(column(position.x), row(position.y));
+        int current = cellOf.get(entity, -1);
+        if (cell == current) {
+            return;
+        }
+        if (current >= 0) {
+            cells[current].removeValue(entity, true);
+        }
+        cells[cell].add(entity);
+        cellOf.put(entity, cell);
+    }
+
+    /**
+     * Retire une entité de la grille.
+     *
+     * @param entity L'entité à retirer.
+     */
+    public void remove(GameEntity entity) {
+        int current = cellOf.remove(entity, -1);
+        if (current >= 0) {
+            cells[current].removeValue(entity, true);
+        }
+    }
+
+    /**
+     * Ajoute à {@code out} les entités dont le centre se trouve dans les cellules qui recouvrent la zone donnée,
+     * élargie d'une marge. Le résultat peut contenir quelques entités situées juste en dehors de la zone.
+     *
+     * @param x La position X du coin inférieur gauche de la zone (en tuiles).
+     * @param y La position Y du coin inférieur gauche de la zone (en tuiles).
+     * @param width La largeur de la zone (en tuiles).
+     * @param height La hauteur de la zone (en tuiles).
+     * @param out La liste qui reçoit les entités trouvées (elle n'est pas vidée).
+     * @return La liste {@code out}.
+     */
+    public Array<GameEntity> query(float x, float y, float width, float height, Array<GameEntity> out) {
+        int minColumn = column(x - QUERY_MARGIN);
+        int maxColumn = column(x + width + QUERY_MARGIN);
+        int minRow = row(y - QUERY_MARGIN);
+        int maxRow = row(y + height + QUERY_MARGIN);
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                Array<GameEntity> cell = cells[cellIndex(column, row)];
+                for (int i = cell.size - 1; i >= 0; i--) {
+                    GameEntity entity = cell.get(i);
+                    if (entity.getBody() == null) {
+                        // Corps détruit depuis la dernière synchronisation (pièce collectée)
+                        cell.removeIndex(i);
+                        cellOf.remove(entity, -1);
+                        continue;
+                    }
+                    out.add(entity);
+                }
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Définit la zone active de la grille, généralement la vue de la caméra élargie.
+     * Les entités situées hors de cette zone peuvent être mises à jour moins souvent.
+     *
+     * @param x La position X du coin inférieur gauche de la zone (en tuiles).
+     * @param y La position Y du coin inférieur gauche de la zone (en tuiles).
+     * @param width La largeur de la zone (en tuiles).
+     * @param height La hauteur de la zone (en tuiles).
+     */
+    public void setActiveRegion(float x, float y, float width, float height) {
+        activeMinColumn = column(x);
+        activeMaxColumn = column(x + width);
+        activeMinRow = row(y);
+        activeMaxRow = row(y + height);
+        activeRegionSet = true;
+    }
+
+    /**
+     * Indique si une entité se trouve dans la zone active.
+     * Sans zone active définie (simulation sans affichage), toutes les entités sont actives.
+     *
+     * @param entity L'entité à tester.
+     * @return {@code true} si l'entité est dans une cellule de la zone active.
+     */
+    public boolean isActive(GameEntity entity) {
+        if (!activeRegionSet) {
+            return true;
+        }
+        int cell = cellOf.get(entity, -1);
+        if (cell < 0) {
+            return true;
+        }
+        int column = cell % columns;
+        int row = cell / columns;
+        return column >= activeMinColumn && column <= activeMaxColumn && row >= activeMinRow && row <= activeMaxRow;
+    }
+
+    /**
+     * Vide la grille.
+     */
+    public void clear() {
+        for (Array<GameEntity> cell : cells) {
+            cell.clear();
+        }
+        cellOf.clear();
+        activeRegionSet = false;
+    }
+
+    /**
+     * Calcule la colonne contenant une position X, bornée aux limites de la grille.
+     */
+    private int column(float x) {
+        return MathUtils.clamp(MathUtils.floor(x / CELL_SIZE), 0, columns - 1);
+    }
+
+    /**
+     * Calcule la ligne contenant une position Y, bornée aux limites de la grille.
+     */
+    private int row(float y) {
+        return MathUtils.clamp(MathUtils.floor(y / CELL_SIZE), 0, rows - 1);
+    }
+
+    /**
+     * Calcule l'indice d'une cellule dans le tableau des cellules.
+     */
+    private int cellIndex(int column, int row) {
+        return row * columns + column;
+    }
+}
@@ -3,6 +3,7 @@ package com.mygame.model.entities;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.physics.box2d.World;
 import com.badlogic.gdx.physics.box2d.*;
+import com.mygame.utils.CollisionCategory;
 
 /**
  * Représente un objet collectable dans le jeu, comme un "coin" ou une "life".
@@ -40,8 +41,7 @@ public class Collectible extends GameEntity {
         fixtureDef.isSensor = true;
 
         getBody().destroyFixture(getBody().getFixtureList().get(0)); // Retirer l'ancienne fixture si présente
-        Fixture fixture = getBody().createFixture(fixtureDef); // Créer une nouvelle fixture sensorielle
-        fixture.setUserData("collectible");
+        CollisionCategory.COLLECTIBLE.applyTo(getBody().createFixture(fixtureDef)); // Créer une nouvelle fixture sensorielle
         shape.dispose(); // Libérer les ressources de la forme après la création
     }
 
@@ -59,12 +59,24 @@ public class Collectible extends GameEntity {
     /**
      * Mise à jour de la physique pour ce collectible. Puisque ce collectible est statique,
      * la physique n'a pas besoin d'être mise à jour.
+     *
+     * @param deltaTime La durée du pas de simulation (en secondes).
      */
     @Override
-    public void updatePhysics() {
+    public void updatePhysics(float deltaTime) {
         // Pas besoin de mettre à jour la physique pour les collectibles statiques
     }
 
+    /**
+     * Un collectible n'est détecté que par le capteur du joueur.
+     *
+     * @return La catégorie {@link CollisionCategory#COLLECTIBLE}.
+     */
+    @Override
+    protected CollisionCategory getBodyCategory() {
+        return CollisionCategory.COLLECTIBLE;
+    }
+
     /**
      * Récupère le sous-type du collectible.
      *
@@ -4,6 +4,8 @@ import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
+import com.mygame.controller.enemymovement.MovementStrategy;
+import com.mygame.utils.CollisionCategory;
 
 /**
  * La classe {@code Enemy} représente un ennemi dans le jeu.
@@ -19,6 +21,8 @@ public class Enemy extends GameEntity {
     // Vitesse de l'ennemi
     float speed;
 
+    private boolean asleep; // Vrai si le corps de l'ennemi est désactivé car il est loin de la vue
+
     /**
      * Constructeur de la classe {@code Enemy}.
      *
@@ -48,12 +52,67 @@ public class Enemy extends GameEntity {
      * Met à jour la physique de l'ennemi. Cette méthode peut être utilisée pour mettre à jour
      * le comportement physique de l'ennemi, mais ici elle est vide car les ennemis peuvent
      * ne pas avoir de comportements physiques complexes.
+     *
+     * @param deltaTime La durée du pas de simulation (en secondes).
      */
     @Override
-    public void updatePhysics() {
+    public void updatePhysics(float deltaTime) {
         // Pas de mise à jour physique spécifique pour l'ennemi dans cette version.
     }
 
+    /**
+     * Retourne la stratégie de mouvement de l'ennemi.
+     *
+     * @return La stratégie de mouvement, ou null si l'ennemi ne se déplace pas.
+     */
+    protected MovementStrategy getMovementStrategy() {
+        return null;
+    }
+
+    /**
+     * Endort l'ennemi pendant un pas de simulation : son corps est désactivé (il ne participe plus aux collisions
+     * ni à la broadphase) et son mouvement avance sans toucher au monde physique.
+     *
+     * @param deltaTime La durée du pas de simulation (en secondes).
+     */
+    public void sleep(float deltaTime) {
+        if (!asleep && getBody() != null) {
+            asleep = true;
+            getBody().setActive(false);
+        }
+        MovementStrategy movementStrategy = getMovementStrategy();
+        if (movementStrategy != null) {
+            movementStrategy.skip(deltaTime);
+        }
+    }
+
+    /**
+     * Réveille l'ennemi : son corps est réactivé et replacé là où son mouvement l'aurait amené pendant le sommeil.
+     */
+    public void wake() {
+        if (!asleep) {
+            return;
+        }
+        asleep = false;
+        if (getBody() == null) {
+            return;
+        }
+        getBody().setActive(true);
+        MovementStrategy movementStrategy = getMovementStrategy();
+        if (movementStrategy != null) {
+            movementStrategy.wake(getBody());
+        }
+    }
+
+    /**
+     * Indique si l'ennemi est endormi.
+     *
+     * @return {@code true} si le corps de l'ennemi est désactivé.
+     */
+    public boolean isAsleep() {
+        return asleep;
+    }
+
     /**
      * Crée un capteur autour de l'ennemi pour détecter des objets, tels que des collectibles ou des zones d'attaque.
      * Ce capteur est utilisé pour activer des interactions sans modifier la physique de l'ennemi.
@@ -62,7 +121,18 @@ public class Enemy extends GameEntity {
      */
     public void createSensor() {
         // Récupère la première fixture de l'ennemi (qui représente sa forme physique)
-        getBody().getFixtureList().get(0).setSensor(true);  // Définir cette fixture comme un capteur (sensor)
-        getBody().getFixtureList().get(0).setUserData("deadzone");  // Associe un nom de "deadzone" à ce capteur
+        Fixture fixture = getBody().getFixtureList().get(0);
+        fixture.setSensor(true);  // Définir cette fixture comme un capteur (sensor)
+        CollisionCategory.HAZARD.applyTo(fixture);  // Le capteur est mortel pour le joueur
+    }
+
+    /**
+     * Le corps d'un ennemi entre en collision avec le décor, le joueur et les autres ennemis.
+     *
+     * @return La catégorie {@link CollisionCategory#ENEMY_BODY}.
+     */
+    @Override
+    protected CollisionCategory getBodyCategory() {
+        return CollisionCategory.ENEMY_BODY;
     }
 }
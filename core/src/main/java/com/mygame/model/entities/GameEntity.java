@@ -5,6 +5,7 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.physics.box2d.*;
 import com.badlogic.gdx.math.Vector2;
+import com.mygame.utils.CollisionCategory;
 import com.mygame.utils.Coord;
 
 /**
@@ -26,6 +27,10 @@ public abstract class GameEntity {
     // Nouveau paramètre pour définir si l'entité est statique ou dynamique
     private BodyDef.BodyType bodyType; // Type de corps physique de l'entité
 
+    // Position du corps au pas de simulation précédent, utilisée pour l'interpolation de l'affichage
+    private float previousX; // Position X précédente du corps Box2D
+    private float previousY; // Position Y précédente du corps Box2D
+
     /**
      * Constructeur de l'entité de jeu.
      * Ce constructeur initialise les coordonnées, le sprite, et le type de corps physique (statique ou dynamique).
@@ -51,6 +56,7 @@ public abstract class GameEntity {
 
         // Créer le corps Box2D (statique ou dynamique selon le paramètre)
         createBox2DBody(world);
+        savePreviousTransform();
     }
 
     /**
@@ -66,6 +72,7 @@ public abstract class GameEntity {
 
         // Créer le corps physique
         body = world.createBody(bodyDef);
+        body.setUserData(this); // Permet de retrouver l'entité à partir de son corps lors des contacts
 
         // Créer une forme (ici un rectangle basé sur la taille du sprite)
         PolygonShape shape = new PolygonShape();
@@ -78,8 +85,8 @@ public abstract class GameEntity {
         fixtureDef.friction = 0.0f; // Friction
         fixtureDef.restitution = 0.00f; // Élasticité
 
-        // Créer la fixture pour le corps
-        body.createFixture(fixtureDef);
+        // Créer la fixture pour le corps, avec la catégorie de collision de l'entité
+        getBodyCategory().applyTo(body.createFixture(fixtureDef));
         shape.dispose(); // Libérer la forme après l'ajout
     }
 
@@ -106,11 +113,73 @@ public abstract class GameEntity {
      * @param batch Le SpriteBatch utilisé pour dessiner l'entité.
      */
     public void render(SpriteBatch batch) {
-        // Positionner le sprite pour qu'il soit centré sur le corps Box2D
-        sprite.setPosition(body.getPosition().x - sprite.getWidth() / 2, body.getPosition().y - sprite.getHeight() / 2);
+        render(batch, 1f);
+    }
+
+    /**
+     * Rendu de l'entité en interpolant sa position entre les deux derniers pas de simulation.
+     *
+     * @param batch Le SpriteBatch utilisé pour dessiner l'entité.
+     * @param alpha Le facteur d'interpolation entre la position précédente (0) et la position courante (1).
+     */
+    public void render(SpriteBatch batch, float alpha) {
+        updateSpritePosition(alpha);
         sprite.draw(batch); // Utiliser directement le sprite pour l'affichage
     }
 
+    /**
+     * Place le sprite au centre de la position interpolée du corps Box2D, sans le dessiner.
+     *
+     * @param alpha Le facteur d'interpolation entre la position précédente (0) et la position courante (1).
+     */
+    public void updateSpritePosition(float alpha) {
+        float x = previousX;
+        float y = previousY;
+        if (body != null) {
+            Vector2 position = body.getPosition(); // Un seul appel natif pour les deux coordonnées
+            x += (position.x - previousX) * alpha;
+            y += (position.y - previousY) * alpha;
+        }
+        sprite.setPosition(x - sprite.getWidth() / 2, y - sprite.getHeight() / 2);
+    }
+
+    /**
+     * Mémorise la position actuelle du corps Box2D avant un nouveau pas de simulation.
+     */
+    public void savePreviousTransform() {
+        if (body != null) {
+            Vector2 position = body.getPosition();
+            previousX = position.x;
+            previousY = position.y;
+        }
+    }
+
+    /**
+     * Calcule la position X interpolée entre le pas de simulation précédent et le pas courant.
+     *
+     * @param alpha Le facteur d'interpolation (entre 0 et 1).
+     * @return La position X interpolée.
+     */
+    public float getInterpolatedX(float alpha) {
+        if (body == null) {
+            return previousX;
+        }
+        return previousX + (body.getPosition().x - previousX) * alpha;
+    }
+
+    /**
+     * Calcule la position Y interpolée entre le pas de simulation précédent et le pas courant.
+     *
+     * @param alpha Le facteur d'interpolation (entre 0 et 1).
+     * @return La position Y interpolée.
+     */
+    public float getInterpolatedY(float alpha) {
+        if (body == null) {
+            return previousY;
+        }
+        return previousY + (body.getPosition().y - previousY) * alpha;
+    }
+
     // Getters et Setters pour coord, sprite, etc.
 
     /**
@@ -232,6 +301,9 @@ public abstract class GameEntity {
      */
     public void setBody(Body body) {
         this.body = body;
+        if (body != null) {
+            body.setUserData(this); // Permet de retrouver l'entité à partir de son corps lors des contacts
+        }
     }
 
     /**
@@ -266,21 +338,29 @@ public abstract class GameEntity {
      */
     public void dispose() {
         if (body != null && body.getWorld() != null) {
-            body.getWorld().destroyBody(body);
-            for (Fixture fixture : body.getFixtureList()) {
-                body.destroyFixture(fixture);
-            }
+            body.getWorld().destroyBody(body); // Détruit aussi les fixtures du corps
             body = null;
         }
         sprite.setTexture(null); // Libérer la texture du sprite
     }
     public void updateSprite() {}
 
+    /**
+     * Retourne la catégorie de collision de la fixture principale (le corps) de l'entité.
+     * Cette méthode est appelée depuis le constructeur : elle ne doit dépendre d'aucun attribut de la sous-classe.
+     *
+     * @return La catégorie de collision du corps de l'entité.
+     */
+    protected abstract CollisionCategory getBodyCategory();
+
     /**
      * Méthode abstraite pour mettre à jour la physique de l'entité.
-     * Cette méthode doit être implémentée dans les classes concrètes.
+     * Cette méthode est appelée une fois par pas de simulation, avant {@code world.step}.
+     * Elle doit être implémentée dans les classes concrètes.
+     *
+     * @param deltaTime La durée fixe du pas de simulation (en secondes).
      */
-    public abstract void updatePhysics();
+    public abstract void updatePhysics(float deltaTime);
 
 
 }
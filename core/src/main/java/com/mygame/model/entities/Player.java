@@ -1,10 +1,10 @@
 package com.mygame.model.entities;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
+import com.mygame.common.SoundFactory;
+import com.mygame.utils.CollisionCategory;
 
 /**
  * Représente un joueur dans le jeu. Le joueur peut se déplacer horizontalement et sauter.
@@ -13,7 +13,6 @@ import com.badlogic.gdx.physics.box2d.*;
  */
 public class Player extends GameEntity {
 
-    private Sound jumpSound = Gdx.audio.newSound(Gdx.files.internal("sounds/jump.mp3"));
     private float moveSpeed = 4f;   // Vitesse de déplacement horizontal du joueur
     private float jumpForce = 9f;   // Force du saut du joueur
     private static final float JUMP_VELOCITY_THRESHOLD = 0.1f;  // Seuil pour considérer que la vélocité Y est proche de zéro, permettant un nouveau saut
@@ -80,8 +79,9 @@ public class Player extends GameEntity {
      */
     public void jump() {
         if (Math.abs(getBody().getLinearVelocity().y) < JUMP_VELOCITY_THRESHOLD) {
-            jumpSound.play();
-            getBody().applyLinearImpulse(new Vector2(0, jumpForce), getBody().getWorldCenter(), true); // Applique une impulsion verticale pour le saut
+            SoundFactory.getInstance().playSound("jump"); // Son partagé, chargé par le GameManager
+            Vector2 center = getBody().getWorldCenter(); // Vecteur interne du corps, aucune allocation
+            getBody().applyLinearImpulse(0, jumpForce, center.x, center.y, true); // Applique une impulsion verticale pour le saut
         }
     }
 
@@ -100,8 +100,7 @@ public class Player extends GameEntity {
         fixtureDef.isSensor = true;  // Le capteur ne bloque pas la physique, il détecte simplement les objets en collision
 
         // Crée la fixture sensorielle autour du joueur
-        Fixture fixture = getBody().createFixture(fixtureDef);
-        fixture.setUserData("player");  // Définir un identifiant pour la fixture
+        CollisionCategory.PLAYER_SENSOR.applyTo(getBody().createFixture(fixtureDef));
 
         shape.dispose(); // Libérer la mémoire utilisée par la forme du capteur
     }
@@ -113,7 +112,6 @@ public class Player extends GameEntity {
     @Override
     public void collectPiece() {
         score++;  // Incrémenter le score
-        System.out.println("Score: " + score);  // Afficher le score dans la console
     }
 
     /**
@@ -127,8 +125,18 @@ public class Player extends GameEntity {
         this.score = score;
     }
 
+    /**
+     * Le corps du joueur entre en collision avec le décor et les ennemis.
+     *
+     * @return La catégorie {@link CollisionCategory#PLAYER_BODY}.
+     */
+    @Override
+    protected CollisionCategory getBodyCategory() {
+        return CollisionCategory.PLAYER_BODY;
+    }
+
     @Override
-    public void updatePhysics() {
+    public void updatePhysics(float deltaTime) {
 
     }
 
@@ -1,11 +1,11 @@
 package com.mygame.model.entities.enemies;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
 import com.mygame.model.entities.Enemy;
 import com.mygame.controller.enemymovement.MovementStrategy;
+import com.mygame.utils.CollisionCategory;
 
 /**
  * Représente un ennemi patrouillant qui utilise une stratégie de mouvement horizontal.
@@ -28,6 +28,16 @@ public class PatrollingEnemy extends Enemy {
         super(x, y, sprite, world, BodyDef.BodyType.DynamicBody);
         this.movementStrategy = movementStrategy;
     }
+
+    /**
+     * Retourne la stratégie de mouvement de l'ennemi.
+     *
+     * @return La stratégie de mouvement.
+     */
+    @Override
+    protected MovementStrategy getMovementStrategy() {
+        return movementStrategy;
+    }
     @Override
     public void createSensor() {
         CircleShape shape = new CircleShape();
@@ -40,8 +50,7 @@ public class PatrollingEnemy extends Enemy {
 
         // Crée la fixture sensorielle autour du joueur
 
-        Fixture fixture = getBody().createFixture(fixtureDef);
-        fixture.setUserData("deadzone");
+        CollisionCategory.HAZARD.applyTo(getBody().createFixture(fixtureDef));
 
 
         shape.dispose(); // Libère la mémoire utilisée par la forme du capteur
@@ -51,15 +60,16 @@ public class PatrollingEnemy extends Enemy {
 
         /**
          * Met à jour la physique de l'ennemi.
+         *
+         * @param deltaTime La durée du pas de simulation (en secondes).
          */
     @Override
-    public void updatePhysics() {
+    public void updatePhysics(float deltaTime) {
         if (getBody() == null || movementStrategy == null) {
             return;
         }
 
-        Vector2 currentPosition = getBody().getPosition();
-        movementStrategy.updateMovement(getBody(), Gdx.graphics.getDeltaTime());
+        movementStrategy.updateMovement(getBody(), deltaTime);
 
     }
 
@@ -70,6 +80,6 @@ public class PatrollingEnemy extends Enemy {
      */
     @Override
     public void update(float deltaTime) {
-        updatePhysics();
+        updatePhysics(deltaTime);
     }
 }
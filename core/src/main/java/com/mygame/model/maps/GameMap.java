@@ -8,6 +8,7 @@ import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
 import com.badlogic.gdx.physics.box2d.*;
 import com.badlogic.gdx.math.Vector2;
 import com.mygame.model.maps.obstacles.*;
+import com.mygame.utils.ResourceTracker;
 
 /**
  * La classe {@code GameMap} permet de gérer la carte du jeu,
@@ -24,21 +25,79 @@ public class GameMap {
     private TiledMapTileLayer obstacleLayer;
     private MapLayer entityLayer;
     private World world; // Le monde physique Box2D
+    private final boolean mergeTiles; // Fusionner les tuiles adjacentes en corps composés
+    private final TileMerger merger;  // Tuiles déjà fusionnées lors du chargement (null pour les fusionner ici)
+    private final boolean ownsMap;    // Vrai si la carte doit être libérée avec cet objet
+    private final boolean ownsWorld;  // Vrai si le monde physique doit être libéré avec cet objet
 
     // Facteur Pixels par Mètre
     private float PPM = 16f;  // Pixels par mètre, ajustez en fonction de vos tuiles
 
+    // Statistiques sur les obstacles créés à partir des tuiles
+    private int obstacleTileCount;     // Nombre de tuiles d'obstacles dans la couche
+    private int obstacleBodyCount;     // Nombre de corps Box2D créés pour ces tuiles
+    private int obstacleFixtureCount;  // Nombre de fixtures Box2D créées pour ces tuiles
+
     /**
      * Constructeur de la classe {@code GameMap}.
+     * Les tuiles d'obstacles adjacentes sont fusionnées en corps composés.
      *
      * @param map La carte Tiled qui contient les éléments du niveau.
      * @param world Le monde physique Box2D dans lequel la carte et les objets seront créés.
      */
     public GameMap(TiledMap map, World world) {
+        this(map, world, true);
+    }
+
+    /**
+     * Constructeur de la classe {@code GameMap} permettant de choisir le mode de création des obstacles.
+     *
+     * @param map La carte Tiled qui contient les éléments du niveau.
+     * @param world Le monde physique Box2D dans lequel la carte et les objets seront créés.
+     * @param mergeTiles {@code true} pour fusionner les tuiles adjacentes en rectangles maximaux,
+     *                   {@code false} pour créer un corps par tuile.
+     */
+    public GameMap(TiledMap map, World world, boolean mergeTiles) {
+        this(map, world, mergeTiles, null, true, true);
+    }
+
+    /**
+     * Constructeur de la classe {@code GameMap} à partir d'un niveau préparé sur un thread de chargement.
+     * Les tuiles d'obstacles ont déjà été fusionnées : seuls les corps Box2D sont créés ici.
+     * La carte appartient au gestionnaire de ressources qui l'a chargée et n'est pas libérée par {@link #dispose()}.
+     *
+     * @param blueprint Le niveau préparé.
+     * @param world Le monde physique Box2D dans lequel la carte et les objets seront créés.
+     */
+    public GameMap(LevelBlueprint blueprint, World world) {
+        this(blueprint, world, true);
+    }
+
+    /**
+     * Constructeur de la classe {@code GameMap} à partir d'un niveau préparé, dans un monde physique
+     * éventuellement partagé entre les niveaux.
+     *
+     * @param blueprint Le niveau préparé.
+     * @param world Le monde physique Box2D dans lequel la carte et les objets seront créés.
+     * @param ownsWorld {@code true} si le monde doit être libéré par {@link #dispose()},
+     *                  {@code false} s'il est réutilisé par le niveau suivant.
+     */
+    public GameMap(LevelBlueprint blueprint, World world, boolean ownsWorld) {
+        this(blueprint.getMap(), world, true, blueprint.getMerger(), false, ownsWorld);
+    }
+
+    /**
+     * Constructeur commun.
+     */
+    private GameMap(TiledMap map, World world, boolean mergeTiles, TileMerger merger, boolean ownsMap, boolean ownsWorld) {
         this.map = map;
         this.entityLayer = (MapLayer) map.getLayers().get("entity");
         this.obstacleLayer = (TiledMapTileLayer) map.getLayers().get("obstacles");
         this.world = world;
+        this.mergeTiles = mergeTiles;
+        this.merger = merger;
+        this.ownsMap = ownsMap;
+        this.ownsWorld = ownsWorld;
 
         createBox2DObstacles();
         createExit();
@@ -50,6 +109,29 @@ public class GameMap {
      * Une zone de mort est également créée pour le bas de la carte.
      */
     public void createBox2DObstacles() {
+        int bodiesBefore = world.getBodyCount();
+        int fixturesBefore = world.getFixtureCount();
+
+        if (mergeTiles) {
+            createMergedObstacles();
+        } else {
+            createTileObstacles();
+        }
+
+        obstacleBodyCount = world.getBodyCount() - bodiesBefore;
+        obstacleFixtureCount = world.getFixtureCount() - fixturesBefore;
+
+        createBorderObstacles();
+
+        // Crée la zone de mort en bas de la carte
+        DeadZone deadZone = new DeadZone(world, PPM);
+        deadZone.createBody(0, 0, getMapWidth(), 1f);
+    }
+
+    /**
+     * Crée un corps Box2D par tuile d'obstacle.
+     */
+    private void createTileObstacles() {
         float tileWidth = obstacleLayer.getTileWidth();
         float tileHeight = obstacleLayer.getTileHeight();
 
@@ -58,50 +140,49 @@ public class GameMap {
                 TiledMapTileLayer.Cell cell = obstacleLayer.getCell(x, y);
                 if (cell != null) {
                     Obstacle obstacle;
-                    if (cell.getTile().getId() != 41) {
+                    if (cell.getTile().getId() != TileMerger.BOUNCE_TILE_ID) {
                         obstacle = new SolidObstacle(world, PPM); // Crée un obstacle solide
                     } else {
                         obstacle = new BounceObstacle(world, PPM); // Crée un obstacle rebondissant
                     }
                     obstacle.createBody(x * tileWidth / PPM, y * tileHeight / PPM, tileWidth / PPM, tileHeight / PPM);
+                    obstacleTileCount++;
                 }
             }
         }
-        createBorderObstacles();
-
-        // Crée la zone de mort en bas de la carte
-        DeadZone deadZone = new DeadZone(world, PPM);
-        deadZone.createBody(0, 0, getMapWidth(), 1f);
     }
-    private void createBorderObstacles() {
-        float tileWidth = obstacleLayer.getTileWidth();
-        float tileHeight = obstacleLayer.getTileHeight();
-        Obstacle obstacle;
-        // Obstacle du haut de la carte
-        for (int x = 0; x < getMapWidth(); x++) {
-            obstacle= new SolidObstacle(world, PPM); // Bord supérieur
-            obstacle.createBody(x * tileWidth / PPM, getMapHeight()-1 * tileHeight / PPM, tileWidth / PPM, tileHeight / PPM);
 
-        }
-
-        // Obstacle du bas de la carte
-        for (int x = 0; x < getMapWidth(); x++) {
-            obstacle = new SolidObstacle(world, PPM); // Bord inférieur
-            obstacle.createBody(x * tileWidth / PPM, -1 * tileHeight / PPM, tileWidth / PPM, tileHeight / PPM);
+    /**
+     * Fusionne les tuiles d'obstacles adjacentes en rectangles maximaux et crée un corps composé
+     * par nature d'obstacle (solide et rebondissant).
+     */
+    private void createMergedObstacles() {
+        TileMerger merger = this.merger != null ? this.merger : new TileMerger(obstacleLayer, PPM);
+        obstacleTileCount = merger.getTileCount();
 
+        if (merger.getSolidRectangles().size > 0) {
+            new SolidObstacle(world, PPM).createCompoundBody(merger.getSolidRectangles());
         }
-
-        // Obstacle à gauche de la carte
-        for (int y = 0; y < getMapHeight(); y++) {
-            obstacle = new SolidObstacle(world, PPM); // Bord inférieur
-            obstacle.createBody(-1*tileWidth / PPM, y * tileHeight / PPM, tileWidth / PPM, tileHeight / PPM);
+        if (merger.getBounceRectangles().size > 0) {
+            new BounceObstacle(world, PPM).createCompoundBody(merger.getBounceRectangles());
         }
+    }
 
-        // Obstacle à droite de la carte
-        for (int y = 0; y < getMapHeight(); y++) {
-            obstacle = new SolidObstacle(world, PPM);
-            obstacle.createBody(getMapWidth()  * tileWidth / PPM, y * tileHeight / PPM, tileWidth / PPM, tileHeight / PPM);
-        }
+    /**
+     * Crée les bords de la carte sous la forme d'une seule chaîne fermée.
+     * L'intérieur de la boucle correspond à l'espace jouable : de 0 à la largeur de la carte
+     * horizontalement, et de 0 à la dernière rangée de tuiles verticalement.
+     */
+    private void createBorderObstacles() {
+        float width = getMapWidth() * obstacleLayer.getTileWidth() / PPM;
+        float top = (getMapHeight() - 1) * obstacleLayer.getTileHeight() / PPM;
+
+        new SolidObstacle(world, PPM).createLoopBody(new float[] {
+            0, 0,
+            width, 0,
+            width, top,
+            0, top
+        });
     }
 
     /**
@@ -153,6 +234,34 @@ public class GameMap {
         return obstacleLayer.getHeight();
     }
 
+    /**
+     * Obtient le nombre de tuiles d'obstacles présentes dans la couche, c'est-à-dire le nombre
+     * de corps qui seraient créés sans fusion.
+     *
+     * @return Le nombre de tuiles d'obstacles.
+     */
+    public int getObstacleTileCount() {
+        return obstacleTileCount;
+    }
+
+    /**
+     * Obtient le nombre de corps Box2D créés pour les tuiles d'obstacles.
+     *
+     * @return Le nombre de corps d'obstacles.
+     */
+    public int getObstacleBodyCount() {
+        return obstacleBodyCount;
+    }
+
+    /**
+     * Obtient le nombre de fixtures Box2D créées pour les tuiles d'obstacles.
+     *
+     * @return Le nombre de fixtures d'obstacles.
+     */
+    public int getObstacleFixtureCount() {
+        return obstacleFixtureCount;
+    }
+
     /**
      * Obtient la couche des obstacles de la carte.
      *
@@ -191,13 +300,14 @@ public class GameMap {
 
     /**
      * Libère les ressources utilisées par la carte et le monde physique.
+     * Une carte chargée par le gestionnaire de ressources et un monde partagé entre les niveaux ne sont pas libérés ici.
      */
     public void dispose() {
-        if (map != null) {
-            map.dispose();
+        if (map != null && ownsMap) {
+            ResourceTracker.dispose(map);
         }
-        if (world != null) {
-            world.dispose();
+        if (world != null && ownsWorld) {
+            ResourceTracker.dispose(world);
         }
     }
 
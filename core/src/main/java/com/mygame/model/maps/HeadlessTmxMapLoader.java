@@ -0,0 +1,64 @@
+package com.mygame.model.maps;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileSet;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.maps.ImageResolver;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.XmlReader.Element;
+
+/**
+ * La classe {@code HeadlessTmxMapLoader} charge une carte Tiled (.tmx) sans charger aucune texture.
+ * <p>
+ * Le {@link TmxMapLoader} standard crée une {@code Texture} pour chaque image de tileset, ce qui nécessite
+ * un contexte OpenGL. Ce chargeur conserve toute la structure de la carte (couches, tuiles et leurs identifiants,
+ * objets, propriétés), mais associe à chaque tuile une région de texture vide. Il est destiné à la simulation
+ * sans affichage (serveur, tests automatisés, bots) et à la validation des cartes.
+ * </p>
+ */
+public class HeadlessTmxMapLoader extends TmxMapLoader {
+
+    /**
+     * Charge la carte sans résoudre aucune image.
+     *
+     * @param fileName  Le chemin du fichier .tmx à charger.
+     * @param parameter Les paramètres de chargement.
+     * @return La carte Tiled chargée, sans texture.
+     */
+    @Override
+    public TiledMap load(String fileName, TmxMapLoader.Parameters parameter) {
+        FileHandle tmxFile = resolve(fileName);
+        this.root = xml.parse(tmxFile);
+        return loadTiledMap(tmxFile, parameter, imagePath -> null); // Aucune image n'est chargée
+    }
+
+    /**
+     * Crée les tuiles d'un tileset basé sur une image, en reproduisant le découpage du {@link TmxMapLoader}
+     * à partir des dimensions déclarées de l'image, mais sans lire l'image elle-même.
+     */
+    @Override
+    protected void addStaticTiles(FileHandle tmxFile, ImageResolver imageResolver, TiledMapTileSet tileSet, Element element,
+                                  Array<Element> tileElements, String name, int firstgid, int tilewidth, int tileheight, int spacing,
+                                  int margin, String source, int offsetX, int offsetY, String imageSource, int imageWidth,
+                                  int imageHeight, FileHandle image) {
+        if (image != null) {
+            // Tileset basé sur une seule image : découpage en grille
+            int stopWidth = imageWidth - tilewidth;
+            int stopHeight = imageHeight - tileheight;
+            int id = firstgid;
+            for (int y = margin; y <= stopHeight; y += tileheight + spacing) {
+                for (int x = margin; x <= stopWidth; x += tilewidth + spacing) {
+                    addStaticTiledMapTile(tileSet, new TextureRegion(), id++, offsetX, offsetY);
+                }
+            }
+        } else {
+            // Tileset composé d'images individuelles : une tuile par élément
+            for (Element tileElement : tileElements) {
+                int tileId = firstgid + tileElement.getIntAttribute("id", 0);
+                addStaticTiledMapTile(tileSet, new TextureRegion(), tileId, offsetX, offsetY);
+            }
+        }
+    }
+}
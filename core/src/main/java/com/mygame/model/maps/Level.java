@@ -23,6 +23,18 @@ public class Level implements Serializable {
     public Level() {
     }
 
+    /**
+     * Constructeur de la classe {@code Level} à partir d'un chemin de carte et d'un nom.
+     * Utilisé lorsque le niveau n'est pas lu depuis le fichier de configuration des niveaux.
+     *
+     * @param mapPath Le chemin du fichier de carte Tiled.
+     * @param name Le nom du niveau.
+     */
+    public Level(String mapPath, String name) {
+        this.mapPath = mapPath;
+        this.name = name;
+    }
+
     /**
      * Retourne le chemin du niveau, qui représente l'emplacement du fichier de carte.
      *
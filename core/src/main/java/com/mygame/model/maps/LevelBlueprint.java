@@ -0,0 +1,66 @@
+package com.mygame.model.maps;
+
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+
+/**
+ * La classe {@code LevelBlueprint} contient tout ce qui peut être préparé pour un niveau sans monde physique
+ * ni contexte OpenGL : la carte Tiled déjà chargée et la fusion des tuiles d'obstacles en rectangles.
+ * <p>
+ * Elle est construite sur un thread de chargement par le {@link com.mygame.view.screen.LoadingScreen},
+ * ou pendant la partie précédente lorsque le niveau est préchargé ({@link com.mygame.controller.GameManager#prefetch}).
+ * Il ne reste ensuite au thread de rendu qu'à créer les corps Box2D et les entités ({@link GameMap#GameMap(LevelBlueprint, com.badlogic.gdx.physics.box2d.World)}).
+ * La carte appartient au gestionnaire de ressources qui l'a chargée : elle n'est pas libérée avec le niveau.
+ * </p>
+ */
+public class LevelBlueprint {
+
+    /**
+     * Facteur Pixels par Mètre utilisé pour convertir les rectangles fusionnés (identique à celui de {@link GameMap}).
+     */
+    public static final float PPM = 16f;
+
+    private final String mapPath;     // Chemin de la carte
+    private final TiledMap map;       // Carte Tiled chargée
+    private final TileMerger merger;  // Tuiles d'obstacles fusionnées (null si la couche n'existe pas)
+
+    /**
+     * Prépare le niveau à partir de sa carte déjà chargée. Cette méthode peut être appelée hors du thread de rendu.
+     *
+     * @param mapPath Le chemin de la carte.
+     * @param map La carte Tiled chargée.
+     */
+    public LevelBlueprint(String mapPath, TiledMap map) {
+        this.mapPath = mapPath;
+        this.map = map;
+        TiledMapTileLayer obstacleLayer = (TiledMapTileLayer) map.getLayers().get("obstacles");
+        this.merger = obstacleLayer != null ? new TileMerger(obstacleLayer, PPM) : null;
+    }
+
+    /**
+     * Retourne le chemin de la carte.
+     *
+     * @return Le chemin de la carte.
+     */
+    public String getMapPath() {
+        return mapPath;
+    }
+
+    /**
+     * Retourne la carte Tiled chargée.
+     *
+     * @return La carte Tiled.
+     */
+    public TiledMap getMap() {
+        return map;
+    }
+
+    /**
+     * Retourne les tuiles d'obstacles fusionnées.
+     *
+     * @return Le résultat de la fusion, ou null si la carte n'a pas de couche d'obstacles.
+     */
+    public TileMerger getMerger() {
+        return merger;
+    }
+}
@@ -2,6 +2,7 @@ package com.mygame.model.maps;
 
 import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.mygame.utils.ResourceTracker;
 
 /**
  * La classe {@code MapLoader} est responsable du chargement des cartes Tiled (.tmx) dans le jeu.
@@ -10,13 +11,33 @@ import com.badlogic.gdx.maps.tiled.TmxMapLoader;
 public class MapLoader {
 
     private TiledMap map; // Carte Tiled chargée
+    private final TmxMapLoader tmxMapLoader; // Chargeur Tiled utilisé pour lire les fichiers .tmx
 
     /**
      * Constructeur de la classe {@code MapLoader}.
      * Initialise un chargeur de carte sans carte chargée au départ.
      */
     public MapLoader() {
-        // Constructeur simple
+        this(new TmxMapLoader());
+    }
+
+    /**
+     * Constructeur de la classe {@code MapLoader} utilisant un chargeur Tiled spécifique,
+     * par exemple {@link HeadlessTmxMapLoader} pour charger une carte sans texture.
+     *
+     * @param tmxMapLoader Le chargeur Tiled à utiliser.
+     */
+    public MapLoader(TmxMapLoader tmxMapLoader) {
+        this.tmxMapLoader = tmxMapLoader;
+    }
+
+    /**
+     * Crée un chargeur de carte qui ne charge aucune texture, utilisable sans contexte graphique.
+     *
+     * @return Un nouveau chargeur de carte sans affichage.
+     */
+    public static MapLoader headless() {
+        return new MapLoader(new HeadlessTmxMapLoader());
     }
 
     /**
@@ -27,17 +48,19 @@ public class MapLoader {
      * @return La carte Tiled chargée.
      */
     public TiledMap loadMap(String mapFile) {
-        map = new TmxMapLoader().load(mapFile); // Charge la carte
+        map = ResourceTracker.track(tmxMapLoader.load(mapFile)); // Charge la carte
         return map; // Retourne la carte chargée
     }
 
     /**
-     * Libère les ressources associées à la carte chargée.
-     * Cette méthode doit être appelée lorsque la carte n'est plus nécessaire pour libérer la mémoire.
+     * Libère les ressources associées à la dernière carte chargée.
+     * Cette méthode doit être appelée lorsque la carte n'est plus nécessaire pour libérer la mémoire ;
+     * un second appel, sans nouveau chargement, n'a aucun effet.
      */
     public void dispose() {
         if (map != null) {
-            map.dispose(); // Libère les ressources de la carte Tiled
+            ResourceTracker.dispose(map); // Libère les ressources de la carte Tiled
+            map = null;
         }
     }
 }
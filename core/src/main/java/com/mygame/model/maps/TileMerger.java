@@ -0,0 +1,162 @@
+package com.mygame.model.maps;
+
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * La classe {@code TileMerger} regroupe les tuiles adjacentes d'une couche d'obstacles en rectangles maximaux.
+ * <p>
+ * Au lieu de créer un corps Box2D par tuile, les cellules voisines de même nature (solide ou rebondissante)
+ * sont fusionnées de manière gloutonne : chaque rectangle est d'abord étendu le long de l'axe X,
+ * puis le long de l'axe Y tant que toute la rangée correspond. Les deux natures ne sont jamais mélangées
+ * afin de conserver les propriétés physiques propres à chaque type d'obstacle.
+ * </p>
+ */
+public class TileMerger {
+
+    /**
+     * Identifiant de la tuile rebondissante dans le tileset.
+     */
+    public static final int BOUNCE_TILE_ID = 41;
+
+    private static final byte EMPTY = 0;   // Cellule vide
+    private static final byte SOLID = 1;   // Cellule solide
+    private static final byte BOUNCE = 2;  // Cellule rebondissante
+
+    private final Array<Rectangle> solidRectangles = new Array<>();   // Rectangles fusionnés solides
+    private final Array<Rectangle> bounceRectangles = new Array<>();  // Rectangles fusionnés rebondissants
+    private int solidTileCount;   // Nombre de tuiles solides d'origine
+    private int bounceTileCount;  // Nombre de tuiles rebondissantes d'origine
+
+    /**
+     * Fusionne les tuiles de la couche fournie.
+     * Les rectangles produits sont exprimés en unités du monde physique (tuiles converties avec le facteur PPM).
+     *
+     * @param layer La couche d'obstacles à fusionner.
+     * @param PPM   Le facteur Pixels par Mètre utilisé pour la conversion des dimensions.
+     */
+    public TileMerger(TiledMapTileLayer layer, float PPM) {
+        int width = layer.getWidth();
+        int height = layer.getHeight();
+        float unitWidth = layer.getTileWidth() / PPM;
+        float unitHeight = layer.getTileHeight() / PPM;
+
+        byte[] kinds = classify(layer, width, height);
+        boolean[] visited = new boolean[width * height];
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int index = y * width + x;
+                byte kind = kinds[index];
+                if (kind == EMPTY || visited[index]) {
+                    continue;
+                }
+
+                // Étendre le rectangle vers la droite
+                int rectWidth = 1;
+                while (x + rectWidth < width && matches(kinds, visited, index + rectWidth, kind)) {
+                    rectWidth++;
+                }
+
+                // Étendre le rectangle vers le haut tant que la rangée entière correspond
+                int rectHeight = 1;
+                while (y + rectHeight < height && rowMatches(kinds, visited, (y + rectHeight) * width + x, rectWidth, kind)) {
+                    rectHeight++;
+                }
+
+                // Marquer les cellules couvertes
+                for (int dy = 0; dy < rectHeight; dy++) {
+                    int rowStart = (y + dy) * width + x;
+                    for (int dx = 0; dx < rectWidth; dx++) {
+                        visited[rowStart + dx] = true;
+                    }
+                }
+
+                Rectangle rectangle = new Rectangle(x * unitWidth, y * unitHeight, rectWidth * unitWidth, rectHeight * unitHeight);
+                if (kind == SOLID) {
+                    solidRectangles.add(rectangle);
+                } else {
+                    bounceRectangles.add(rectangle);
+                }
+            }
+        }
+    }
+
+    /**
+     * Détermine la nature de chaque cellule de la couche.
+     *
+     * @param layer  La couche d'obstacles.
+     * @param width  La largeur de la couche en tuiles.
+     * @param height La hauteur de la couche en tuiles.
+     * @return Un tableau indexé par {@code y * width + x} contenant la nature de chaque cellule.
+     */
+    private byte[] classify(TiledMapTileLayer layer, int width, int height) {
+        byte[] kinds = new byte[width * height];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                TiledMapTileLayer.Cell cell = layer.getCell(x, y);
+                if (cell == null) {
+                    continue;
+                }
+                if (cell.getTile().getId() != BOUNCE_TILE_ID) {
+                    kinds[y * width + x] = SOLID;
+                    solidTileCount++;
+                } else {
+                    kinds[y * width + x] = BOUNCE;
+                    bounceTileCount++;
+                }
+            }
+        }
+        return kinds;
+    }
+
+    private static boolean matches(byte[] kinds, boolean[] visited, int index, byte kind) {
+        return kinds[index] == kind && !visited[index];
+    }
+
+    private static boolean rowMatches(byte[] kinds, boolean[] visited, int rowStart, int length, byte kind) {
+        for (int i = 0; i < length; i++) {
+            if (!matches(kinds, visited, rowStart + i, kind)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Retourne les rectangles fusionnés correspondant aux tuiles solides.
+     *
+     * @return La liste des rectangles solides.
+     */
+    public Array<Rectangle> getSolidRectangles() {
+        return solidRectangles;
+    }
+
+    /**
+     * Retourne les rectangles fusionnés correspondant aux tuiles rebondissantes.
+     *
+     * @return La liste des rectangles rebondissants.
+     */
+    public Array<Rectangle> getBounceRectangles() {
+        return bounceRectangles;
+    }
+
+    /**
+     * Retourne le nombre total de tuiles d'obstacles avant fusion.
+     *
+     * @return Le nombre de tuiles solides et rebondissantes.
+     */
+    public int getTileCount() {
+        return solidTileCount + bounceTileCount;
+    }
+
+    /**
+     * Retourne le nombre total de rectangles après fusion.
+     *
+     * @return Le nombre de rectangles solides et rebondissants.
+     */
+    public int getRectangleCount() {
+        return solidRectangles.size + bounceRectangles.size;
+    }
+}
@@ -3,6 +3,7 @@ package com.mygame.model.maps.obstacles;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.FixtureDef;
 import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.Shape;
 import com.badlogic.gdx.physics.box2d.World;
 
 /**
@@ -54,16 +55,24 @@ public class BounceObstacle extends Obstacle {
         PolygonShape shape = new PolygonShape();
         shape.setAsBox(width / 2, height / 2);  // La forme est un rectangle de dimensions (width, height)
 
-        // Définir les propriétés physiques de la fixture
-        FixtureDef fixtureDef = new FixtureDef();
-        fixtureDef.shape = shape;
-        fixtureDef.restitution = 1.2f;  // Restitution élevée pour un rebond fort
-        fixtureDef.friction = 0.0f;     // Friction nulle (pas d'effet de glissement)
-
-        // Créer la fixture avec les propriétés définies
-        body.createFixture(fixtureDef);
+        // Créer la fixture avec les propriétés de rebond
+        createFixture(createFixtureDef(shape));
 
         // Libérer les ressources de la forme après l'avoir utilisée
         shape.dispose();
     }
+
+    /**
+     * Crée la définition de fixture d'un obstacle rebondissant : restitution élevée et friction nulle.
+     *
+     * @param shape La forme à associer à la fixture.
+     * @return La définition de fixture configurée.
+     */
+    @Override
+    protected FixtureDef createFixtureDef(Shape shape) {
+        FixtureDef fixtureDef = super.createFixtureDef(shape);
+        fixtureDef.restitution = 1.2f;  // Restitution élevée pour un rebond fort
+        fixtureDef.friction = 0.0f;     // Friction nulle (pas d'effet de glissement)
+        return fixtureDef;
+    }
 }
@@ -4,6 +4,7 @@ import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.FixtureDef;
 import com.badlogic.gdx.physics.box2d.PolygonShape;
 import com.badlogic.gdx.physics.box2d.World;
+import com.mygame.utils.CollisionCategory;
 
 /**
  * La classe {@code DeadZone} représente une zone spéciale dans le jeu
@@ -55,8 +56,18 @@ public class DeadZone extends Obstacle {
         fixtureDef.shape = shape;
         fixtureDef.isSensor = true; // Défini comme capteur (sensor)
 
-        // Créer la fixture et associer la donnée utilisateur "deadzone"
-        body.createFixture(fixtureDef).setUserData("deadzone");
+        // Créer la fixture avec la catégorie de collision de la zone de mort
+        createFixture(fixtureDef);
         shape.dispose(); // Libérer les ressources de la forme
     }
+
+    /**
+     * La zone de mort est un danger détecté par le capteur du joueur.
+     *
+     * @return La catégorie {@link CollisionCategory#HAZARD}.
+     */
+    @Override
+    protected CollisionCategory getCategory() {
+        return CollisionCategory.HAZARD;
+    }
 }
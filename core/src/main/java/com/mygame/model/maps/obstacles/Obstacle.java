@@ -1,6 +1,10 @@
 package com.mygame.model.maps.obstacles;
 
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
+import com.badlogic.gdx.utils.Array;
+import com.mygame.utils.CollisionCategory;
 
 /**
  * Classe abstraite {@code Obstacle} pour représenter un obstacle générique dans une carte de jeu.
@@ -54,6 +58,85 @@ public abstract class Obstacle {
      */
     public abstract void createBody(float x, float y, float width, float height);
 
+    /**
+     * Crée un unique corps statique composé d'une fixture rectangulaire par rectangle fourni.
+     *
+     * <p>Cette méthode permet de regrouper plusieurs zones de même nature (par exemple des tuiles
+     * fusionnées) dans un seul corps Box2D, ce qui réduit le nombre de corps parcourus par la broadphase.
+     * Les propriétés de chaque fixture sont celles définies par {@link #createFixtureDef(Shape)}.</p>
+     *
+     * @param rectangles Les rectangles (en unités du monde) à ajouter au corps.
+     */
+    public void createCompoundBody(Array<Rectangle> rectangles) {
+        BodyDef bodyDef = new BodyDef();
+        bodyDef.type = BodyDef.BodyType.StaticBody;
+        body = world.createBody(bodyDef);
+
+        PolygonShape shape = new PolygonShape();
+        FixtureDef fixtureDef = createFixtureDef(shape);
+        Vector2 center = new Vector2();
+        for (Rectangle rectangle : rectangles) {
+            rectangle.getCenter(center);
+            shape.setAsBox(rectangle.width / 2, rectangle.height / 2, center, 0);
+            createFixture(fixtureDef);
+        }
+        shape.dispose();
+    }
+
+    /**
+     * Crée un corps statique unique dont la forme est une boucle fermée ({@link ChainShape}).
+     *
+     * <p>Utilisé pour les bords de la carte : une seule chaîne remplace un corps par tuile de bordure.
+     * Les propriétés de la fixture sont celles définies par {@link #createFixtureDef(Shape)}.</p>
+     *
+     * @param vertices Les sommets de la boucle (en unités du monde), sous la forme x0, y0, x1, y1, ...
+     */
+    public void createLoopBody(float[] vertices) {
+        BodyDef bodyDef = new BodyDef();
+        bodyDef.type = BodyDef.BodyType.StaticBody;
+        body = world.createBody(bodyDef);
+
+        ChainShape shape = new ChainShape();
+        shape.createLoop(vertices);
+        createFixture(createFixtureDef(shape));
+        shape.dispose();
+    }
+
+    /**
+     * Crée la définition de fixture propre à ce type d'obstacle.
+     *
+     * <p>Par défaut, la fixture n'a aucune propriété particulière. Les sous-classes peuvent redéfinir
+     * cette méthode pour préciser la restitution, la friction ou le statut de capteur.</p>
+     *
+     * @param shape La forme à associer à la fixture.
+     * @return La définition de fixture configurée.
+     */
+    protected FixtureDef createFixtureDef(Shape shape) {
+        FixtureDef fixtureDef = new FixtureDef();
+        fixtureDef.shape = shape;
+        return fixtureDef;
+    }
+
+    /**
+     * Retourne la catégorie de collision des fixtures de cet obstacle.
+     * Par défaut, un obstacle fait partie du décor ; les capteurs redéfinissent cette méthode.
+     *
+     * @return La catégorie de collision de l'obstacle.
+     */
+    protected CollisionCategory getCategory() {
+        return CollisionCategory.TERRAIN;
+    }
+
+    /**
+     * Ajoute une fixture au corps de l'obstacle et lui applique la catégorie de collision de l'obstacle.
+     *
+     * @param fixtureDef La définition de la fixture.
+     * @return La fixture créée.
+     */
+    protected Fixture createFixture(FixtureDef fixtureDef) {
+        return getCategory().applyTo(body.createFixture(fixtureDef));
+    }
+
     /**
      * Retourne le corps physique {@link Body} associé à cet obstacle.
      *
@@ -3,6 +3,7 @@ package com.mygame.model.maps.obstacles;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.FixtureDef;
 import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.Shape;
 import com.badlogic.gdx.physics.box2d.World;
 
 /**
@@ -52,16 +53,24 @@ public class SolidObstacle extends Obstacle {
         PolygonShape shape = new PolygonShape();
         shape.setAsBox(width / 2, height / 2);
 
-        // Définir les propriétés de la fixture
-        FixtureDef fixtureDef = new FixtureDef();
-        fixtureDef.shape = shape;
-        fixtureDef.restitution = 0.1f; // Faible rebond
-        fixtureDef.friction = 0.0f;   // Pas de friction
-
         // Ajouter la fixture au corps
-        body.createFixture(fixtureDef);
+        createFixture(createFixtureDef(shape));
 
         // Libérer les ressources de la forme après utilisation
         shape.dispose();
     }
+
+    /**
+     * Crée la définition de fixture d'un obstacle solide : faible rebond et aucune friction.
+     *
+     * @param shape La forme à associer à la fixture.
+     * @return La définition de fixture configurée.
+     */
+    @Override
+    protected FixtureDef createFixtureDef(Shape shape) {
+        FixtureDef fixtureDef = super.createFixtureDef(shape);
+        fixtureDef.restitution = 0.1f; // Faible rebond
+        fixtureDef.friction = 0.0f;   // Pas de friction
+        return fixtureDef;
+    }
 }
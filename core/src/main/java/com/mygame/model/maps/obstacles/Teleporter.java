@@ -4,6 +4,7 @@ import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.FixtureDef;
 import com.badlogic.gdx.physics.box2d.PolygonShape;
 import com.badlogic.gdx.physics.box2d.World;
+import com.mygame.utils.CollisionCategory;
 
 /**
  * Représente un téléporteur dans le jeu. Cette classe hérite de la classe {@link Obstacle} et crée un objet statique
@@ -50,10 +51,20 @@ public class Teleporter extends Obstacle {
         fixtureDef.shape = shape;
         fixtureDef.isSensor = true;  // Le téléporteur agit comme un capteur
 
-        // Création du fixture pour le téléporteur avec un identifiant utilisateur
-        body.createFixture(fixtureDef).setUserData("exit");
+        // Création du fixture pour le téléporteur avec sa catégorie de collision
+        createFixture(fixtureDef);
 
         // Libération de la mémoire utilisée par la forme
         shape.dispose();
     }
+
+    /**
+     * Le téléporteur est une sortie détectée par le capteur du joueur.
+     *
+     * @return La catégorie {@link CollisionCategory#EXIT}.
+     */
+    @Override
+    protected CollisionCategory getCategory() {
+        return CollisionCategory.EXIT;
+    }
 }
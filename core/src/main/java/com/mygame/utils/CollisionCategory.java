@@ -0,0 +1,103 @@
+package com.mygame.utils;
+
+import com.badlogic.gdx.physics.box2d.Filter;
+import com.badlogic.gdx.physics.box2d.Fixture;
+
+/**
+ * L'énumération {@code CollisionCategory} définit les catégories de fixtures du jeu et les paires
+ * de catégories qui peuvent entrer en contact.
+ * <p>
+ * Chaque catégorie correspond à un bit de filtre Box2D ({@code categoryBits}), et son masque ({@code maskBits})
+ * contient uniquement les catégories avec lesquelles elle interagit. Les paires sans intérêt (capteurs de l'ennemi
+ * contre le décor, pièces contre le corps du joueur, etc.) sont ainsi écartées par la broadphase de Box2D et
+ * n'atteignent jamais les écouteurs de contacts. La catégorie est aussi enregistrée comme donnée utilisateur
+ * de la fixture, ce qui permet aux écouteurs d'aiguiller les contacts par un simple {@code switch}.
+ * </p>
+ */
+public enum CollisionCategory {
+    TERRAIN,        // Obstacles solides, rebondissants et bords de la carte
+    PLAYER_BODY,    // Corps physique du joueur
+    PLAYER_SENSOR,  // Capteur du joueur (collecte, mort, sortie)
+    ENEMY_BODY,     // Corps physique des ennemis
+    HAZARD,         // Zones mortelles : capteurs des ennemis et zone de mort de la carte
+    COLLECTIBLE,    // Objets à collecter
+    EXIT;           // Téléporteurs de sortie
+
+    private final short bits = (short) (1 << ordinal()); // Bit de catégorie de la fixture
+    private short mask;                                  // Catégories avec lesquelles la fixture interagit
+
+    static {
+        // Collisions physiques
+        collide(TERRAIN, PLAYER_BODY);
+        collide(TERRAIN, ENEMY_BODY);
+        collide(PLAYER_BODY, ENEMY_BODY);
+        collide(ENEMY_BODY, ENEMY_BODY);
+
+        // Détections par le capteur du joueur
+        collide(PLAYER_SENSOR, HAZARD);
+        collide(PLAYER_SENSOR, COLLECTIBLE);
+        collide(PLAYER_SENSOR, EXIT);
+    }
+
+    /**
+     * Déclare une interaction symétrique entre deux catégories.
+     */
+    private static void collide(CollisionCategory a, CollisionCategory b) {
+        a.mask |= b.bits;
+        b.mask |= a.bits;
+    }
+
+    /**
+     * Retourne le bit de catégorie.
+     *
+     * @return Le bit de catégorie Box2D.
+     */
+    public short getBits() {
+        return bits;
+    }
+
+    /**
+     * Retourne le masque des catégories avec lesquelles cette catégorie interagit.
+     *
+     * @return Le masque Box2D.
+     */
+    public short getMask() {
+        return mask;
+    }
+
+    /**
+     * Indique si cette catégorie interagit avec une autre.
+     *
+     * @param other L'autre catégorie.
+     * @return {@code true} si les deux catégories peuvent entrer en contact.
+     */
+    public boolean collidesWith(CollisionCategory other) {
+        return (mask & other.bits) != 0;
+    }
+
+    /**
+     * Applique la catégorie à une fixture : filtre de collision et donnée utilisateur.
+     *
+     * @param fixture La fixture à configurer.
+     * @return La fixture configurée.
+     */
+    public Fixture applyTo(Fixture fixture) {
+        Filter filter = fixture.getFilterData();
+        filter.categoryBits = bits;
+        filter.maskBits = mask;
+        fixture.setFilterData(filter);
+        fixture.setUserData(this);
+        return fixture;
+    }
+
+    /**
+     * Retourne la catégorie d'une fixture.
+     *
+     * @param fixture La fixture.
+     * @return La catégorie de la fixture, ou null si aucune catégorie ne lui a été appliquée.
+     */
+    public static CollisionCategory of(Fixture fixture) {
+        Object userData = fixture.getUserData();
+        return userData instanceof CollisionCategory ? (CollisionCategory) userData : null;
+    }
+}
@@ -2,70 +2,139 @@ package com.mygame.utils;
 
 import com.badlogic.gdx.physics.box2d.*;
 import com.mygame.utils.ContactListener.CollectibleListener;
+import com.mygame.utils.ContactListener.ExitListener;
+import com.mygame.utils.ContactListener.LoseListener;
 
 /**
- * La classe {@code CompositeContactListener} permet de combiner plusieurs écouteurs (listeners) de collisions.
- * Elle implémente l'interface {@link ContactListener} et délègue les appels de méthodes de gestion des contacts
- * à une liste d'écouteurs de collisions passés en paramètre.
+ * La classe {@code CompositeContactListener} permet de combiner les écouteurs (listeners) de collisions du jeu.
+ * Elle implémente l'interface {@link ContactListener} et aiguille chaque contact vers l'écouteur concerné
+ * selon les catégories de collision ({@link CollisionCategory}) des deux fixtures.
  * <p>
- * Cette classe est utile pour gérer plusieurs types d'événements de collisions en utilisant un seul écouteur composite.
+ * Seuls les contacts impliquant le capteur du joueur sont utiles aux écouteurs : les autres paires sont écartées
+ * par les filtres de collision ou ignorées dès la lecture des catégories, sans aucune comparaison de chaînes.
+ * </p>
+ * <p>
+ * Pendant le pas physique, les contacts sont seulement enregistrés dans une {@link ContactEventQueue}.
+ * Ils sont transmis aux écouteurs par {@link #dispatchEvents()}, une fois par pas et après {@code World.step},
+ * dans l'ordre où Box2D les a signalés.
  * </p>
  */
 public class CompositeContactListener implements ContactListener {
 
-    private final ContactListener[] listeners;  // Liste des écouteurs de contacts
+    private final LoseListener loseListener;                // Écouteur des événements de perte (peut être null)
+    private final CollectibleListener collectibleListener;  // Écouteur des événements de collecte (peut être null)
+    private final ExitListener exitListener;                // Écouteur des événements de sortie (peut être null)
+    private final ContactEventQueue events = new ContactEventQueue(64); // Contacts en attente de traitement
 
     /**
-     * Constructeur qui prend une liste d'écouteurs de collisions à combiner.
+     * Constructeur qui prend les écouteurs de collisions à combiner.
+     * Un écouteur peut être {@code null}, par exemple pour une simulation sans écran de défaite ni de victoire.
      *
-     * @param listeners Liste d'écouteurs de collisions. Ces écouteurs seront appelés lors des événements de collision.
+     * @param loseListener L'écouteur des contacts avec les dangers.
+     * @param collectibleListener L'écouteur des contacts avec les objets collectables.
+     * @param exitListener L'écouteur des contacts avec les sorties.
      */
-    public CompositeContactListener(ContactListener... listeners) {
-        this.listeners = listeners;  // Initialisation de la liste des écouteurs
+    public CompositeContactListener(LoseListener loseListener, CollectibleListener collectibleListener, ExitListener exitListener) {
+        this.loseListener = loseListener;
+        this.collectibleListener = collectibleListener;
+        this.exitListener = exitListener;
     }
 
     /**
-     * Récupère le {@link CollectibleListener} parmi les écouteurs de contact.
+     * Récupère le {@link CollectibleListener} de cet écouteur composite.
      *
-     * @return Le {@link CollectibleListener} s'il existe parmi les écouteurs, sinon {@code null}.
+     * @return Le {@link CollectibleListener}, ou {@code null} s'il n'a pas été fourni.
      */
     public CollectibleListener getCollectibleListener() {
-        CollectibleListener collectibleListener = null;
-        for (ContactListener listener : listeners) {
-            if (listener instanceof CollectibleListener) {
-                return (CollectibleListener) listener;  // Retourne le CollectibleListener trouvé
-            }
-        }
-        return collectibleListener;  // Retourne null si aucun CollectibleListener n'est trouvé
+        return collectibleListener;
     }
 
+    /**
+     * Enregistre le début d'un contact impliquant le capteur du joueur.
+     * Aucun traitement n'est effectué ici : le monde physique ne peut pas être modifié pendant le pas.
+     *
+     * @param contact Le contact entre deux fixtures.
+     */
     @Override
     public void beginContact(Contact contact) {
-        for (ContactListener listener : listeners) {
-            listener.beginContact(contact);  // Délégation à chaque écouteur
+        Fixture fixtureA = contact.getFixtureA();
+        Fixture fixtureB = contact.getFixtureB();
+
+        Fixture player;
+        Fixture other;
+        if (CollisionCategory.of(fixtureA) == CollisionCategory.PLAYER_SENSOR) {
+            player = fixtureA;
+            other = fixtureB;
+        } else if (CollisionCategory.of(fixtureB) == CollisionCategory.PLAYER_SENSOR) {
+            player = fixtureB;
+            other = fixtureA;
+        } else {
+            return; // Aucun écouteur n'est concerné
+        }
+
+        CollisionCategory otherCategory = CollisionCategory.of(other);
+        if (otherCategory != null) {
+            events.push(otherCategory, other, player);
         }
     }
 
+    /**
+     * Transmet les contacts enregistrés pendant le dernier pas physique aux écouteurs concernés.
+     * Cette méthode doit être appelée une fois par pas, après {@code World.step}.
+     */
+    public void dispatchEvents() {
+        while (events.poll()) {
+            switch (events.getCategory()) {
+                case HAZARD:
+                    if (loseListener != null) {
+                        loseListener.onHazardContact();
+                    }
+                    break;
+                case COLLECTIBLE:
+                    if (collectibleListener != null) {
+                        collectibleListener.collectItem(events.getOther(), events.getPlayer());
+                    }
+                    break;
+                case EXIT:
+                    if (exitListener != null) {
+                        exitListener.onExitContact();
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Aucun écouteur ne traite la fin des contacts.
+     *
+     * @param contact Le contact entre deux fixtures.
+     */
     @Override
     public void endContact(Contact contact) {
-        for (ContactListener listener : listeners) {
-            listener.endContact(contact);  // Délégation à chaque écouteur
-        }
+        // Aucun traitement nécessaire
     }
 
+    /**
+     * Aucun écouteur ne traite les contacts avant leur résolution.
+     *
+     * @param contact Le contact entre deux fixtures.
+     * @param oldManifold L'ancien manifold du contact.
+     */
     @Override
     public void preSolve(Contact contact, Manifold oldManifold) {
-        for (ContactListener listener : listeners) {
-            listener.preSolve(contact, oldManifold);  // Délégation à chaque écouteur
-        }
+        // Aucun traitement nécessaire
     }
 
+    /**
+     * Aucun écouteur ne traite les contacts après leur résolution.
+     *
+     * @param contact Le contact entre deux fixtures.
+     * @param impulse Les impulsions appliquées lors de la résolution.
+     */
     @Override
     public void postSolve(Contact contact, ContactImpulse impulse) {
-        for (ContactListener listener : listeners) {
-            listener.postSolve(contact, impulse);  // Délégation à chaque écouteur
-        }
+        // Aucun traitement nécessaire
     }
-
-    // Ajoutez ici une méthode update() pour appeler la méthode update sur chaque écouteur, si nécessaire
 }
@@ -0,0 +1,144 @@
+package com.mygame.utils;
+
+import com.badlogic.gdx.physics.box2d.Fixture;
+
+/**
+ * La classe {@code ContactEventQueue} est une file circulaire d'événements de contact.
+ * <p>
+ * Pendant {@code World.step}, les rappels de Box2D se contentent d'y enregistrer un événement (la catégorie
+ * de la fixture touchée, cette fixture et la fixture du joueur). Les événements sont ensuite traités en une fois,
+ * dans leur ordre d'arrivée, une fois le pas terminé : le monde physique peut alors être modifié sans risque.
+ * Les tableaux sont alloués à l'avance : l'enregistrement d'un contact n'alloue aucun objet.
+ * </p>
+ */
+public class ContactEventQueue {
+
+    private CollisionCategory[] categories;  // Catégorie de la fixture touchée par le joueur
+    private Fixture[] others;                // Fixture touchée par le joueur
+    private Fixture[] players;               // Fixture du capteur du joueur
+    private int head;                        // Indice du prochain événement à lire
+    private int size;                        // Nombre d'événements en attente
+
+    private CollisionCategory currentCategory;  // Catégorie de l'événement courant
+    private Fixture currentOther;               // Fixture touchée de l'événement courant
+    private Fixture currentPlayer;              // Fixture du joueur de l'événement courant
+
+    /**
+     * Constructeur de la file d'événements.
+     *
+     * @param capacity La capacité initiale, arrondie à la puissance de deux supérieure.
+     */
+    public ContactEventQueue(int capacity) {
+        int powerOfTwo = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        categories = new CollisionCategory[powerOfTwo];
+        others = new Fixture[powerOfTwo];
+        players = new Fixture[powerOfTwo];
+    }
+
+    /**
+     * Ajoute un événement en fin de file.
+     * La file double de taille si elle est pleine, ce qui ne se produit qu'exceptionnellement.
+     *
+     * @param category La catégorie de la fixture touchée.
+     * @param other La fixture touchée.
+     * @param player La fixture du capteur du joueur.
+     */
+    public void push(CollisionCategory category, Fixture other, Fixture player) {
+        if (size == categories.length) {
+            grow();
+        }
+        int index = (head + size) & (categories.length - 1);
+        categories[index] = category;
+        others[index] = other;
+        players[index] = player;
+        size++;
+    }
+
+    /**
+     * Retire le premier événement de la file et en fait l'événement courant.
+     *
+     * @return {@code true} si un événement a été retiré, {@code false} si la file est vide.
+     */
+    public boolean poll() {
+        if (size == 0) {
+            currentCategory = null;
+            currentOther = null;
+            currentPlayer = null;
+            return false;
+        }
+        currentCategory = categories[head];
+        currentOther = others[head];
+        currentPlayer = players[head];
+        categories[head] = null;
+        others[head] = null;
+        players[head] = null;
+        head = (head + 1) & (categories.length - 1);
+        size--;
+        return true;
+    }
+
+    /**
+     * Retourne la catégorie de la fixture touchée dans l'événement courant.
+     *
+     * @return La catégorie de l'événement courant.
+     */
+    public CollisionCategory getCategory() {
+        return currentCategory;
+    }
+
+    /**
+     * Retourne la fixture touchée par le joueur dans l'événement courant.
+     *
+     * @return La fixture touchée.
+     */
+    public Fixture getOther() {
+        return currentOther;
+    }
+
+    /**
+     * Retourne la fixture du capteur du joueur dans l'événement courant.
+     *
+     * @return La fixture du joueur.
+     */
+    public Fixture getPlayer() {
+        return currentPlayer;
+    }
+
+    /**
+     * Retourne le nombre d'événements en attente.
+     *
+     * @return Le nombre d'événements.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Vide la file sans traiter les événements.
+     */
+    public void clear() {
+        while (poll()) {
+            // Les références sont libérées par poll()
+        }
+    }
+
+    /**
+     * Double la capacité de la file en conservant l'ordre des événements.
+     */
+    private void grow() {
+        int capacity = categories.length;
+        CollisionCategory[] newCategories = new CollisionCategory[capacity * 2];
+        Fixture[] newOthers = new Fixture[capacity * 2];
+        Fixture[] newPlayers = new Fixture[capacity * 2];
+        for (int i = 0; i < size; i++) {
+            int index = (head + i) & (capacity - 1);
+            newCategories[i] = categories[index];
+            newOthers[i] = others[index];
+            newPlayers[i] = players[index];
+        }
+        categories = newCategories;
+        others = newOthers;
+        players = newPlayers;
+        head = 0;
+    }
+}
@@ -0,0 +1,78 @@
+package com.mygame.utils;
+
+/**
+ * La classe {@code FixedStepClock} découpe le temps réel écoulé entre deux frames en pas de simulation de durée fixe.
+ * <p>
+ * Le temps de chaque frame est ajouté à un accumulateur, puis consommé par tranches de {@link #getStep()} secondes.
+ * Le nombre de pas exécutés par frame est borné afin d'éviter la « spirale de la mort » après une pause
+ * (ramasse-miettes, déplacement de la fenêtre, etc.) : le temps excédentaire est alors abandonné.
+ * Le reste de l'accumulateur permet de calculer un facteur d'interpolation pour l'affichage.
+ * </p>
+ */
+public class FixedStepClock {
+
+    private final float step;              // Durée d'un pas de simulation (en secondes)
+    private final int maxStepsPerFrame;    // Nombre maximal de pas de rattrapage par frame
+    private float accumulator;             // Temps accumulé non encore simulé
+
+    /**
+     * Constructeur de l'horloge à pas fixe.
+     *
+     * @param tickRate         Le nombre de pas de simulation par seconde (par exemple 60).
+     * @param maxStepsPerFrame Le nombre maximal de pas exécutés pour une seule frame.
+     */
+    public FixedStepClock(int tickRate, int maxStepsPerFrame) {
+        if (tickRate <= 0 || maxStepsPerFrame <= 0) {
+            throw new IllegalArgumentException("La fréquence et le nombre de pas doivent être positifs.");
+        }
+        this.step = 1f / tickRate;
+        this.maxStepsPerFrame = maxStepsPerFrame;
+    }
+
+    /**
+     * Ajoute le temps d'une frame à l'accumulateur et retourne le nombre de pas de simulation à exécuter.
+     * Si le retard dépasse le nombre maximal de pas, le temps restant est abandonné.
+     *
+     * @param frameDelta Le temps écoulé depuis la dernière frame (en secondes).
+     * @return Le nombre de pas de durée {@link #getStep()} à simuler pour cette frame.
+     */
+    public int advance(float frameDelta) {
+        if (frameDelta > 0) {
+            accumulator += frameDelta;
+        }
+
+        int steps = (int) (accumulator / step);
+        if (steps > maxStepsPerFrame) {
+            steps = maxStepsPerFrame;
+            accumulator = 0; // Abandonner le retard pour ne pas accumuler indéfiniment
+        } else {
+            accumulator -= steps * step;
+        }
+        return steps;
+    }
+
+    /**
+     * Retourne la durée fixe d'un pas de simulation.
+     *
+     * @return La durée d'un pas (en secondes).
+     */
+    public float getStep() {
+        return step;
+    }
+
+    /**
+     * Retourne le facteur d'interpolation entre l'état précédent et l'état courant de la simulation.
+     *
+     * @return Une valeur comprise entre 0 et 1.
+     */
+    public float getAlpha() {
+        return Math.min(accumulator / step, 1f);
+    }
+
+    /**
+     * Remet l'accumulateur à zéro, par exemple lors du chargement d'un nouveau niveau.
+     */
+    public void reset() {
+        accumulator = 0;
+    }
+}
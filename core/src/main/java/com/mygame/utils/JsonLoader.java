@@ -8,6 +8,11 @@ import com.mygame.model.maps.Level;
 import com.mygame.model.maps.MapLoader;
 import com.mygame.validation.*;
 
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 /**
  * Classe utilitaire pour charger les données JSON, spécifiquement les niveaux du jeu.
  */
@@ -15,17 +20,34 @@ public class JsonLoader {
 
     /**
      * Charge les niveaux à partir d'un fichier JSON.
+     * Les cartes sont validées en parallèle, sans charger les cartes, par un pool de threads de la taille du processeur.
+     * Les cartes inchangées depuis le lancement précédent ne sont pas relues : leur résultat est lu dans le {@link ValidationCache}.
      *
      * @param filePath Le chemin vers le fichier JSON.
      * @return Une liste d'objets de type Level.
      */
     public static Array<Level> loadLevels(String filePath) {
+        ValidationCache cache = new ValidationCache();
+        Array<Level> levels = loadLevels(filePath, Runtime.getRuntime().availableProcessors(), cache);
+        cache.flush();
+        return levels;
+    }
+
+    /**
+     * Charge les niveaux à partir d'un fichier JSON en validant les cartes une par une
+     * avec le chargeur de cartes fourni.
+     * Permet notamment de valider les niveaux sans contexte graphique avec {@link MapLoader#headless()}.
+     *
+     * @param filePath Le chemin vers le fichier JSON.
+     * @param mapLoader Le chargeur utilisé pour lire les cartes à valider.
+     * @return Une liste d'objets de type Level.
+     */
+    public static Array<Level> loadLevels(String filePath, MapLoader mapLoader) {
         Json json = new Json();
 
         // Créer la chaîne de validateurs
         MapValidator validator = new MapValidator();
 
-        MapLoader mapLoader = new MapLoader();
         Array<Level> levels = null;
         Array<Level> validLevels = new Array<>(); // Liste des niveaux valides
 
@@ -35,30 +57,193 @@ public class JsonLoader {
 
             // Valider les niveaux et ne garder que les valides
             for (int i = 0; i < levels.size; i++) {
-                // Charger la carte du niveau
-                TiledMap map = mapLoader.loadMap(levels.get(i).getPath());
-
-                // Valider la carte avec la chaîne de validateurs
-                if (validator.validate(map)) {
+                if (validateLevel(levels.get(i), mapLoader, validator)) {
                     validLevels.add(levels.get(i)); // Ajouter le niveau à la liste des niveaux valides
-                } else {
-                    System.err.println("Niveau " + levels.get(i).getName() + " invalide. Il sera ignoré.");
                 }
-                map.dispose();
             }
 
-            // Lier les niveaux valides entre eux
-            for (int i = 0; i < validLevels.size - 1; i++) {
-                validLevels.get(i).setNext(validLevels.get(i + 1)); // Chaîner les niveaux valides
+            linkLevels(validLevels);
+
+        } catch (Exception e) {
+            System.err.println("Erreur lors du chargement des niveaux : " + e.getMessage());
+            // En cas d'erreur, retourner une liste vide
+            validLevels = new Array<>();
+        }
+
+        return validLevels; // Retourner la liste des niveaux valides, chaînés entre eux
+    }
+
+    /**
+     * Charge les niveaux à partir d'un fichier JSON en validant les cartes en parallèle.
+     * <p>
+     * Chaque carte est lue par une tâche indépendante, avec son propre {@link TmxStreamValidator} : la carte
+     * n'est pas chargée et aucune ressource OpenGL n'est créée, la lecture du XML peut donc se faire
+     * hors du thread de rendu. Les niveaux valides sont chaînés une fois toutes les tâches terminées,
+     * dans l'ordre du fichier JSON. La durée totale est ainsi bornée par la carte la plus longue à valider
+     * plutôt que par la somme de toutes les cartes.
+     * </p>
+     *
+     * @param filePath Le chemin vers le fichier JSON.
+     * @param threads Le nombre de threads de validation.
+     * @return Une liste d'objets de type Level.
+     */
+    public static Array<Level> loadLevels(String filePath, int threads) {
+        return loadLevels(filePath, threads, null);
+    }
+
+    /**
+     * Charge les niveaux à partir d'un fichier JSON en validant les cartes en parallèle,
+     * en réutilisant les résultats du cache de validation lorsque le fichier de carte n'a pas changé.
+     *
+     * @param filePath Le chemin vers le fichier JSON.
+     * @param threads Le nombre de threads de validation.
+     * @param cache Le cache des résultats de validation, ou null pour valider toutes les cartes.
+     * @return Une liste d'objets de type Level.
+     */
+    public static Array<Level> loadLevels(String filePath, int threads, ValidationCache cache) {
+        Json json = new Json();
+        Array<Level> validLevels = new Array<>(); // Liste des niveaux valides
+        ExecutorService executor = null;
+
+        try {
+            long start = System.nanoTime();
+
+            // Charger les niveaux depuis le fichier JSON
+            Array<Level> levels = json.fromJson(Array.class, Level.class, Gdx.files.internal(filePath));
+
+            // Lancer la validation de chaque carte dans le pool
+            executor = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, levels.size)), runnable -> {
+                Thread thread = new Thread(runnable, "level-validation");
+                thread.setDaemon(true); // Ne bloque pas la fermeture du jeu
+                return thread;
+            });
+            Array<Future<Boolean>> results = new Array<>(levels.size);
+            for (Level level : levels) {
+                results.add(executor.submit(() -> validateLevel(level, cache)));
+            }
+
+            // Attendre toutes les validations, dans l'ordre du fichier JSON
+            for (int i = 0; i < levels.size; i++) {
+                try {
+                    if (results.get(i).get()) {
+                        validLevels.add(levels.get(i)); // Ajouter le niveau à la liste des niveaux valides
+                    }
+                } catch (ExecutionException e) {
+                    System.err.println("Erreur lors de la validation du niveau " + levels.get(i).getName() + " : " + e.getCause());
+                }
             }
 
+            linkLevels(validLevels);
+            System.out.println(validLevels.size + "/" + levels.size + " niveaux valides, validés en "
+                + (System.nanoTime() - start) / 1_000_000 + " ms");
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.err.println("Chargement des niveaux interrompu.");
+            validLevels = new Array<>();
         } catch (Exception e) {
             System.err.println("Erreur lors du chargement des niveaux : " + e.getMessage());
             // En cas d'erreur, retourner une liste vide
             validLevels = new Array<>();
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
         }
 
         return validLevels; // Retourner la liste des niveaux valides, chaînés entre eux
     }
 
+    /**
+     * Valide la carte d'un niveau avec un chargeur sans texture, sauf si le cache contient déjà
+     * le résultat pour le contenu actuel du fichier.
+     *
+     * @param level Le niveau à valider.
+     * @param cache Le cache des résultats de validation, ou null.
+     * @return {@code true} si la carte du niveau est valide.
+     */
+    private static boolean validateLevel(Level level, ValidationCache cache) {
+        if (cache == null) {
+            return validateLevel(level, new TmxStreamValidator());
+        }
+
+        String signature = ValidationCache.signature(Gdx.files.internal(level.getPath()));
+        Boolean cached = cache.get(level.getPath(), signature);
+        if (cached != null) {
+            if (!cached) {
+                System.err.println("Niveau " + level.getName() + " invalide. Il sera ignoré.");
+            }
+            return cached;
+        }
+
+        boolean valid = validateLevel(level, new TmxStreamValidator());
+        cache.put(level.getPath(), signature, valid);
+        return valid;
+    }
+
+    /**
+     * Charge la carte d'un niveau, la valide avec la chaîne de validateurs puis la libère.
+     * La durée de validation du niveau est affichée.
+     *
+     * @param level Le niveau à valider.
+     * @param mapLoader Le chargeur utilisé pour lire la carte.
+     * @param validator La chaîne de validateurs.
+     * @return {@code true} si la carte du niveau est valide.
+     */
+    private static boolean validateLevel(Level level, MapLoader mapLoader, MapValidator validator) {
+        long start = System.nanoTime();
+
+        // Charger la carte du niveau
+        TiledMap map = mapLoader.loadMap(level.getPath());
+
+        // Valider la carte avec la chaîne de validateurs
+        boolean valid = validator.validate(map);
+        mapLoader.dispose(); // Libère la carte, aussi auprès du ResourceTracker
+
+        logValidation(level, valid, start);
+        return valid;
+    }
+
+    /**
+     * Valide le fichier de carte d'un niveau en une seule lecture, sans charger la carte.
+     * La durée de validation du niveau est affichée.
+     *
+     * @param level Le niveau à valider.
+     * @param validator Le validateur de fichiers de carte.
+     * @return {@code true} si la carte du niveau est valide.
+     */
+    private static boolean validateLevel(Level level, TmxStreamValidator validator) {
+        long start = System.nanoTime();
+        boolean valid = validator.validate(Gdx.files.internal(level.getPath()));
+        logValidation(level, valid, start);
+        return valid;
+    }
+
+    /**
+     * Affiche le résultat et la durée de la validation d'un niveau.
+     *
+     * @param level Le niveau validé.
+     * @param valid Le résultat de la validation.
+     * @param start L'instant du début de la validation (en nanosecondes).
+     */
+    private static void logValidation(Level level, boolean valid, long start) {
+        long time = (System.nanoTime() - start) / 1_000;
+        if (valid) {
+            System.out.println("Niveau " + level.getName() + " validé en " + time + " µs");
+        } else {
+            System.err.println("Niveau " + level.getName() + " invalide. Il sera ignoré.");
+        }
+    }
+
+    /**
+     * Lie les niveaux valides entre eux, dans l'ordre de la liste.
+     *
+     * @param validLevels Les niveaux valides.
+     */
+    private static void linkLevels(Array<Level> validLevels) {
+        for (int i = 0; i < validLevels.size - 1; i++) {
+            validLevels.get(i).setNext(validLevels.get(i + 1)); // Chaîner les niveaux valides
+        }
+    }
+
 }
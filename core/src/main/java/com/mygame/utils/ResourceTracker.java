@@ -0,0 +1,216 @@
+package com.mygame.utils;
+
+import com.badlogic.gdx.utils.Disposable;
+
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * La classe {@code ResourceTracker} recense, en mode débogage, les ressources natives du jeu
+ * ({@code Texture}, {@code World}, {@code Sound}, {@code SpriteBatch}, etc.) qui n'ont pas encore été libérées.
+ * <p>
+ * Chaque création de ressource est enveloppée par {@link #track(Disposable, Object)}, qui mémorise son type,
+ * l'écran ou l'objet qui la possède et la pile d'appel de sa création ; chaque libération passe par
+ * {@link #dispose(Disposable)}. Lorsqu'un écran est remplacé, {@link #checkReleased(Object)} signale les ressources
+ * qu'il possédait encore, et {@link #dumpLeaks(String)} liste à la fermeture du jeu tout ce qui n'a pas été libéré.
+ * </p>
+ * <p>
+ * Le suivi est activé par la propriété système {@code rungame.trackResources=true}
+ * (par exemple {@code ./gradlew lwjgl3:run -PtrackResources}). Désactivé, il ne coûte qu'un test par création.
+ * </p>
+ */
+public final class ResourceTracker {
+
+    private static final boolean ENABLED = Boolean.getBoolean("rungame.trackResources");
+
+    private static final Map<Disposable, Allocation> live = new IdentityHashMap<>(); // Ressources non libérées
+
+    /**
+     * Informations mémorisées à la création d'une ressource.
+     */
+    private static final class Allocation {
+        final Object owner;   // Propriétaire de la ressource (écran), ou null pour une ressource globale
+        final Throwable site; // Pile d'appel de la création
+
+        Allocation(Object owner, Throwable site) {
+            this.owner = owner;
+            this.site = site;
+        }
+    }
+
+    private ResourceTracker() {
+    }
+
+    /**
+     * Indique si le suivi des ressources est activé.
+     *
+     * @return {@code true} en mode débogage.
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Enregistre une ressource globale, partagée par tout le jeu.
+     *
+     * @param resource La ressource créée.
+     * @param <T> Le type de la ressource.
+     * @return La ressource, pour pouvoir envelopper directement sa création.
+     */
+    public static <T extends Disposable> T track(T resource) {
+        return track(resource, null);
+    }
+
+    /**
+     * Enregistre une ressource appartenant à un objet, généralement l'écran qui l'a créée.
+     *
+     * @param resource La ressource créée.
+     * @param owner Le propriétaire de la ressource, ou null pour une ressource globale.
+     * @param <T> Le type de la ressource.
+     * @return La ressource, pour pouvoir envelopper directement sa création.
+     */
+    public static <T extends Disposable> T track(T resource, Object owner) {
+        if (ENABLED && resource != null) {
+            synchronized (live) {
+                live.put(resource, new Allocation(owner, new Throwable("Création de " + resource.getClass().getSimpleName())));
+            }
+        }
+        return resource;
+    }
+
+    /**
+     * Libère une ressource et la retire du suivi. Sans effet si la ressource est null.
+     *
+     * @param resource La ressource à libérer.
+     */
+    public static void dispose(Disposable resource) {
+        if (resource == null) {
+            return;
+        }
+        if (ENABLED) {
+            synchronized (live) {
+                live.remove(resource);
+            }
+        }
+        resource.dispose();
+    }
+
+    /**
+     * Retourne le nombre de ressources non libérées.
+     *
+     * @return Le nombre de ressources vivantes (0 si le suivi est désactivé).
+     */
+    public static int getLiveCount() {
+        synchronized (live) {
+            return live.size();
+        }
+    }
+
+    /**
+     * Retourne le nombre de ressources non libérées d'un type donné.
+     *
+     * @param type Le type de ressource (par exemple {@code Texture.class}).
+     * @return Le nombre de ressources vivantes de ce type.
+     */
+    public static int getLiveCount(Class<?> type) {
+        int count = 0;
+        synchronized (live) {
+            for (Disposable resource : live.keySet()) {
+                if (type.isInstance(resource)) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Vérifie qu'un propriétaire a libéré toutes ses ressources, par exemple un écran qui vient d'être libéré.
+     * Les ressources restantes sont signalées avec leur lieu de création, puis retirées du suivi.
+     *
+     * @param owner Le propriétaire à vérifier.
+     * @return Le nombre de ressources non libérées.
+     */
+    public static int checkReleased(Object owner) {
+        if (!ENABLED) {
+            return 0;
+        }
+        int leaks = 0;
+        synchronized (live) {
+            Iterator<Map.Entry<Disposable, Allocation>> entries = live.entrySet().iterator();
+            while (entries.hasNext()) {
+                Map.Entry<Disposable, Allocation> entry = entries.next();
+                if (entry.getValue().owner == owner) {
+                    if (leaks == 0) {
+                        System.err.println("Ressources non libérées par " + owner.getClass().getSimpleName() + " :");
+                    }
+                    printAllocation(entry.getKey(), entry.getValue());
+                    entries.remove(); // Signalée une seule fois
+                    leaks++;
+                }
+            }
+        }
+        return leaks;
+    }
+
+    /**
+     * Affiche le nombre de ressources vivantes par type, par exemple au retour au menu principal.
+     *
+     * @param when Le moment de l'affichage.
+     */
+    public static void dumpCounts(String when) {
+        if (!ENABLED) {
+            return;
+        }
+        Map<String, Integer> counts = new TreeMap<>();
+        synchronized (live) {
+            for (Disposable resource : live.keySet()) {
+                counts.merge(resource.getClass().getSimpleName(), 1, Integer::sum);
+            }
+        }
+        System.out.println("Ressources vivantes (" + when + ") : " + counts);
+    }
+
+    /**
+     * Affiche toutes les ressources non libérées avec leur lieu de création, par exemple à la fermeture du jeu.
+     *
+     * @param when Le moment de l'affichage.
+     * @return Le nombre de ressources non libérées.
+     */
+    public static int dumpLeaks(String when) {
+        if (!ENABLED) {
+            return 0;
+        }
+        synchronized (live) {
+            if (live.isEmpty()) {
+                System.out.println("Aucune ressource non libérée (" + when + ").");
+                return 0;
+            }
+            System.err.println(live.size() + " ressource(s) non libérée(s) (" + when + ") :");
+            for (Map.Entry<Disposable, Allocation> entry : live.entrySet()) {
+                printAllocation(entry.getKey(), entry.getValue());
+            }
+            return live.size();
+        }
+    }
+
+    /**
+     * Affiche une ressource et les premières lignes de la pile d'appel de sa création.
+     */
+    private static void printAllocation(Disposable resource, Allocation allocation) {
+        System.err.println("  " + resource.getClass().getSimpleName()
+            + (allocation.owner != null ? " (" + allocation.owner.getClass().getSimpleName() + ")" : ""));
+        int printed = 0;
+        for (StackTraceElement element : allocation.site.getStackTrace()) {
+            if (element.getClassName().equals(ResourceTracker.class.getName())) {
+                continue; // Ignorer les appels internes à track()
+            }
+            System.err.println("      at " + element);
+            if (++printed == 4) {
+                break;
+            }
+        }
+    }
+}
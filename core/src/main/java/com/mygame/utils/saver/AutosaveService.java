@@ -0,0 +1,97 @@
+package com.mygame.utils.saver;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * La classe {@code AutosaveService} enregistre la progression du joueur en arrière-plan, sans jamais écrire
+ * sur le thread de rendu.
+ * <p>
+ * Le jeu lui soumet des instantanés de sa progression ({@link SaveData}) aussi souvent qu'il le souhaite :
+ * seul le plus récent de chaque emplacement de sauvegarde est conservé, et il est écrit au plus une fois
+ * par intervalle sur un thread dédié.
+ * Une rafale de soumissions ne donne donc lieu qu'à une seule écriture. À la fermeture du jeu,
+ * {@link #shutdown(long)} écrit immédiatement le dernier instantané, avec une attente bornée.
+ * </p>
+ */
+public class AutosaveService {
+
+    private final long intervalMillis;                                    // Délai entre une soumission et son écriture
+    private final ScheduledThreadPoolExecutor executor;                   // Thread d'écriture des sauvegardes
+    private final ConcurrentHashMap<Integer, SaveData> pending = new ConcurrentHashMap<>(); // Dernier instantané non écrit, par emplacement
+    private final AtomicBoolean writeScheduled = new AtomicBoolean();     // Vrai si une écriture est déjà programmée
+
+    /**
+     * Constructeur du service de sauvegarde automatique.
+     *
+     * @param intervalMillis L'intervalle minimal entre deux écritures (en millisecondes).
+     */
+    public AutosaveService(long intervalMillis) {
+        this.intervalMillis = intervalMillis;
+        this.executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "autosave");
+            thread.setDaemon(true); // Ne retarde pas la fermeture de la JVM
+            return thread;
+        });
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    }
+
+    /**
+     * Soumet un instantané de la progression. Il remplace l'instantané précédent du même emplacement
+     * s'il n'a pas encore été écrit. Cette méthode ne bloque jamais.
+     *
+     * @param slot L'emplacement de sauvegarde (à partir de 0).
+     * @param snapshot Les données à enregistrer, qui ne doivent plus être modifiées après l'appel.
+     */
+    public void submit(int slot, SaveData snapshot) {
+        pending.put(slot, snapshot);
+        if (writeScheduled.compareAndSet(false, true)) {
+            try {
+                executor.schedule(this::writePending, intervalMillis, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                writeScheduled.set(false);
+                System.err.println("Sauvegarde automatique arrêtée : instantané ignoré.");
+            }
+        }
+    }
+
+    /**
+     * Écrit le dernier instantané soumis de chaque emplacement. Appelée sur le thread de sauvegarde.
+     */
+    private void writePending() {
+        writeScheduled.set(false); // Une soumission arrivant pendant l'écriture programmera la suivante
+        for (Integer slot : pending.keySet()) {
+            SaveData snapshot = pending.remove(slot);
+            if (snapshot != null) {
+                SaveManager.saveGame(slot, snapshot);
+            }
+        }
+    }
+
+    /**
+     * Écrit immédiatement le dernier instantané puis arrête le service.
+     *
+     * @param timeoutMillis Le temps d'attente maximal de l'écriture (en millisecondes).
+     * @return {@code true} si toutes les écritures sont terminées, {@code false} si le délai a expiré.
+     */
+    public boolean shutdown(long timeoutMillis) {
+        try {
+            executor.execute(this::writePending);
+        } catch (RejectedExecutionException e) {
+            return executor.isTerminated(); // Service déjà arrêté
+        }
+        executor.shutdown(); // Les écritures programmées plus tard sont annulées, celle-ci les remplace
+        try {
+            if (executor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+            System.err.println("La sauvegarde n'a pas pu être terminée en " + timeoutMillis + " ms.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+}
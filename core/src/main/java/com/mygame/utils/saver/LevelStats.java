@@ -0,0 +1,70 @@
+package com.mygame.utils.saver;
+
+/**
+ * La classe {@code LevelStats} contient les statistiques d'un niveau enregistrées dans la sauvegarde :
+ * le meilleur nombre de pièces collectées et le meilleur temps.
+ */
+public class LevelStats {
+
+    private final String levelPath;  // Chemin de la carte du niveau, qui l'identifie
+    private int bestCoins;           // Meilleur nombre de pièces collectées
+    private int bestTimeMillis;      // Meilleur temps (en millisecondes), ou 0 si le niveau n'a pas été terminé
+
+    /**
+     * Constructeur des statistiques d'un niveau.
+     *
+     * @param levelPath Le chemin de la carte du niveau.
+     * @param bestCoins Le meilleur nombre de pièces collectées.
+     * @param bestTimeMillis Le meilleur temps (en millisecondes), ou 0.
+     */
+    public LevelStats(String levelPath, int bestCoins, int bestTimeMillis) {
+        this.levelPath = levelPath;
+        this.bestCoins = bestCoins;
+        this.bestTimeMillis = bestTimeMillis;
+    }
+
+    /**
+     * Retourne le chemin de la carte du niveau.
+     *
+     * @return Le chemin du niveau.
+     */
+    public String getLevelPath() {
+        return levelPath;
+    }
+
+    /**
+     * Retourne le meilleur nombre de pièces collectées.
+     *
+     * @return Le nombre de pièces.
+     */
+    public int getBestCoins() {
+        return bestCoins;
+    }
+
+    /**
+     * Définit le meilleur nombre de pièces collectées.
+     *
+     * @param bestCoins Le nombre de pièces.
+     */
+    public void setBestCoins(int bestCoins) {
+        this.bestCoins = bestCoins;
+    }
+
+    /**
+     * Retourne le meilleur temps.
+     *
+     * @return Le temps (en millisecondes), ou 0 si le niveau n'a pas été terminé.
+     */
+    public int getBestTimeMillis() {
+        return bestTimeMillis;
+    }
+
+    /**
+     * Définit le meilleur temps.
+     *
+     * @param bestTimeMillis Le temps (en millisecondes).
+     */
+    public void setBestTimeMillis(int bestTimeMillis) {
+        this.bestTimeMillis = bestTimeMillis;
+    }
+}
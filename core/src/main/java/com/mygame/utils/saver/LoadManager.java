@@ -1,37 +1,33 @@
 package com.mygame.utils.saver;
 
-import java.io.FileInputStream;
-import java.io.IOException;
-import java.io.ObjectInputStream;
-
 /**
  * La classe {@code LoadManager} est responsable du chargement des données de sauvegarde du jeu.
- * Elle lit les informations de sauvegarde à partir d'un fichier binaire et les transforme en un objet {@link SaveData}.
+ * Elle lit la sauvegarde d'un emplacement du {@link SaveStore} et la transforme en un objet {@link SaveData}.
  * <p>
- * Cette classe offre une méthode statique pour charger les données de sauvegarde à partir du fichier de sauvegarde.
+ * Une ancienne sauvegarde unique ({@code savegame.dat}, ou {@code savegame.ser} en sérialisation Java)
+ * est importée dans le premier emplacement lors du premier accès aux emplacements, puis supprimée.
  * </p>
  */
 public class LoadManager {
 
-    private static final String SAVE_FILE = "savegame.ser";  // Nom du fichier de sauvegarde
-
     /**
-     * Charge les données de sauvegarde depuis le fichier de sauvegarde.
+     * Charge les données de sauvegarde d'un emplacement.
      * <p>
-     * Si le fichier de sauvegarde est trouvé et est valide, les données seront chargées et renvoyées sous forme d'un objet {@link SaveData}.
-     * Si une erreur se produit (par exemple, fichier manquant ou corrompu), les valeurs par défaut sont retournées.
+     * Si la sauvegarde est trouvée et est valide, les données seront chargées et renvoyées sous forme d'un objet {@link SaveData}.
+     * Le dernier niveau ne contient alors que son chemin et son nom : il doit être retrouvé parmi les niveaux du jeu.
+     * Si l'emplacement est vide ou la sauvegarde corrompue, null est retourné.
      * </p>
      *
-     * @return Un objet {@link SaveData} contenant les informations du jeu (niveau, pièces, etc.).
+     * @param slot Le numéro de l'emplacement (à partir de 0).
+     * @return Un objet {@link SaveData} contenant les informations du jeu (niveau, pièces, etc.), ou null.
      */
-    public static SaveData loadGame() {
-        try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(SAVE_FILE))) {
-            SaveData data = (SaveData) ois.readObject();
+    public static SaveData loadGame(int slot) {
+        SaveData data = SaveStore.getInstance().load(slot);
+        if (data != null) {
             System.out.println("Jeu chargé avec succès : " + data);
-            return data;
-        } catch (IOException | ClassNotFoundException e) {
-            System.err.println("Échec du chargement du jeu : " + e.getMessage());
-            return new SaveData(null, 0);  // Valeurs par défaut (niveau 1, 0 pièces)
+        } else {
+            System.err.println("Échec du chargement du jeu : aucune sauvegarde dans l'emplacement " + (slot + 1) + ".");
         }
+        return data;
     }
 }
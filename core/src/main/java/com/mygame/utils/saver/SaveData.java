@@ -4,12 +4,15 @@ import com.mygame.model.maps.Level;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * La classe {@code SaveData} représente les données de sauvegarde d'un jeu.
  * Elle contient des informations sur le niveau courant du joueur et le nombre de pièces collectées.
  * <p>
- * Cette classe est utilisée pour sérialiser et désérialiser les données de sauvegarde afin de permettre au joueur de reprendre la partie là où il l'a laissée.
+ * Ces données sont enregistrées au format binaire défini par {@link SaveFormat} afin de permettre au joueur de reprendre la partie là où il l'a laissée.
+ * La classe reste sérialisable uniquement pour lire les anciennes sauvegardes ({@code savegame.ser}) et les convertir.
  * </p>
  */
 public class SaveData implements Serializable {
@@ -19,6 +22,8 @@ public class SaveData implements Serializable {
 
     private Level lastLevel;  // Le dernier niveau atteint par le joueur
     private int coins;        // Le nombre de pièces collectées par le joueur
+    private long playTimeMillis; // Le temps de jeu total (en millisecondes)
+    private transient List<LevelStats> levelStats = new ArrayList<>(); // Statistiques par niveau (absentes des anciennes sauvegardes)
 
     /**
      * Constructeur pour initialiser les données de sauvegarde avec un niveau et un nombre de pièces.
@@ -67,6 +72,36 @@ public class SaveData implements Serializable {
         this.coins = coins;
     }
 
+    /**
+     * Retourne le temps de jeu total de la partie.
+     *
+     * @return Le temps de jeu (en millisecondes).
+     */
+    public long getPlayTimeMillis() {
+        return playTimeMillis;
+    }
+
+    /**
+     * Définit le temps de jeu total de la partie.
+     *
+     * @param playTimeMillis Le temps de jeu (en millisecondes).
+     */
+    public void setPlayTimeMillis(long playTimeMillis) {
+        this.playTimeMillis = playTimeMillis;
+    }
+
+    /**
+     * Retourne les statistiques enregistrées pour chaque niveau.
+     *
+     * @return La liste modifiable des statistiques par niveau.
+     */
+    public List<LevelStats> getLevelStats() {
+        if (levelStats == null) {
+            levelStats = new ArrayList<>(); // Données lues depuis une ancienne sauvegarde
+        }
+        return levelStats;
+    }
+
     /**
      * Retourne une représentation sous forme de chaîne de caractères des données de sauvegarde.
      * Cela permet de visualiser facilement l'état de la sauvegarde.
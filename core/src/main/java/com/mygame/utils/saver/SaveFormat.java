@@ -0,0 +1,289 @@
+package com.mygame.utils.saver;
+
+import com.mygame.model.maps.Level;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * La classe {@code SaveFormat} définit le format binaire des fichiers de sauvegarde et leur lecture / écriture.
+ * <p>
+ * Contrairement à l'ancienne sérialisation Java, seul l'identifiant du dernier niveau (chemin et nom de la carte)
+ * est enregistré, et non toute la chaîne des niveaux suivants : la taille du fichier ne dépend plus du nombre de niveaux.
+ * </p>
+ * <p>
+ * Contenu du fichier (entiers en big-endian, chaînes en UTF-8 précédées de leur longueur sur 2 octets) :
+ * </p>
+ * <ol>
+ *     <li>signature {@code RGSV}, version du format (2 octets) et indicateurs réservés (2 octets) ;</li>
+ *     <li>nombre de pièces, temps de jeu total en millisecondes (8 octets, depuis la version 2), chemin et nom du dernier niveau ;</li>
+ *     <li>nombre de statistiques de niveau, puis pour chacune : chemin du niveau, meilleur nombre de pièces, meilleur temps ;</li>
+ *     <li>somme de contrôle CRC-32 de tout ce qui précède.</li>
+ * </ol>
+ * <p>
+ * L'écriture est atomique : le fichier est écrit à côté, forcé sur le disque puis renommé,
+ * si bien qu'une sauvegarde interrompue ne corrompt jamais la précédente.
+ * Ces fichiers sont rangés par emplacement dans le {@link SaveStore}.
+ * </p>
+ */
+public final class SaveFormat {
+
+    /**
+     * Nom de l'ancien fichier de sauvegarde unique, antérieur aux emplacements de sauvegarde.
+     */
+    public static final String SAVE_FILE = "savegame.dat";
+
+    /**
+     * Nom de l'ancien fichier de sauvegarde (sérialisation Java), converti au premier chargement.
+     */
+    public static final String LEGACY_SAVE_FILE = "savegame.ser";
+
+    /**
+     * Version actuelle du format. La version 1 ne contient pas le temps de jeu.
+     */
+    public static final short VERSION = 2;
+
+    private static final int MAGIC = 0x52475356;     // Signature "RGSV"
+    private static final int MAX_FILE_SIZE = 64 * 1024; // Taille maximale acceptée d'un fichier de sauvegarde
+    private static final int NO_STRING = 0xFFFF;     // Longueur réservée à une chaîne absente
+
+    private SaveFormat() {
+    }
+
+    /**
+     * Encode des données de sauvegarde.
+     *
+     * @param data Les données à encoder.
+     * @return Un tampon prêt à être lu, contenant le fichier complet.
+     */
+    public static ByteBuffer encode(SaveData data) {
+        Level level = data.getLastLevel();
+        byte[] path = bytes(level != null ? level.getPath() : null);
+        byte[] name = bytes(level != null ? level.getName() : null);
+        List<LevelStats> stats = data.getLevelStats();
+
+        byte[][] statPaths = new byte[stats.size()][];
+        int size = 4 + 2 + 2 + 4 + 8 + stringSize(path) + stringSize(name) + 4 + 4;
+        for (int i = 0; i < stats.size(); i++) {
+            statPaths[i] = bytes(stats.get(i).getLevelPath());
+            size += stringSize(statPaths[i]) + 4 + 4;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(MAGIC);
+        buffer.putShort(VERSION);
+        buffer.putShort((short) 0); // Indicateurs réservés
+        buffer.putInt(data.getCoins());
+        buffer.putLong(data.getPlayTimeMillis());
+        putString(buffer, path);
+        putString(buffer, name);
+        buffer.putInt(stats.size());
+        for (int i = 0; i < stats.size(); i++) {
+            putString(buffer, statPaths[i]);
+            buffer.putInt(stats.get(i).getBestCoins());
+            buffer.putInt(stats.get(i).getBestTimeMillis());
+        }
+        buffer.putInt(checksum(buffer.array(), buffer.position()));
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Décode un fichier de sauvegarde complet.
+     *
+     * @param buffer Le tampon contenant le fichier, prêt à être lu.
+     * @return Les données de sauvegarde. Le dernier niveau ne contient que son chemin et son nom.
+     * @throws IOException Si le fichier est tronqué, corrompu ou d'une version plus récente.
+     */
+    public static SaveData decode(ByteBuffer buffer) throws IOException {
+        try {
+            int start = buffer.position();
+            int end = buffer.limit();
+            if (end - start < 16 || buffer.getInt() != MAGIC) {
+                throw new IOException("ce n'est pas un fichier de sauvegarde");
+            }
+            short version = buffer.getShort();
+            if (version > VERSION) {
+                throw new IOException("format de sauvegarde " + version + " plus récent que le jeu (" + VERSION + ")");
+            }
+            buffer.getShort(); // Indicateurs réservés
+
+            CRC32 crc = new CRC32();
+            crc.update(buffer.array(), buffer.arrayOffset() + start, end - start - 4);
+            if ((int) crc.getValue() != buffer.getInt(end - 4)) {
+                throw new IOException("somme de contrôle invalide");
+            }
+
+            int coins = buffer.getInt();
+            long playTimeMillis = version >= 2 ? buffer.getLong() : 0;
+            String path = getString(buffer);
+            String name = getString(buffer);
+            SaveData data = new SaveData(path != null ? new Level(path, name) : null, coins);
+            data.setPlayTimeMillis(playTimeMillis);
+
+            int statCount = buffer.getInt();
+            if (statCount < 0 || statCount > (end - buffer.position()) / 10) {
+                throw new IOException("nombre de statistiques invalide : " + statCount);
+            }
+            for (int i = 0; i < statCount; i++) {
+                data.getLevelStats().add(new LevelStats(getString(buffer), buffer.getInt(), buffer.getInt()));
+            }
+            return data;
+        } catch (BufferUnderflowException e) {
+            throw new IOException("fichier de sauvegarde tronqué", e);
+        }
+    }
+
+    /**
+     * Lit un fichier de sauvegarde au format binaire.
+     *
+     * @param file Le fichier à lire.
+     * @return Les données de sauvegarde.
+     * @throws IOException Si le fichier ne peut pas être lu ou est invalide.
+     */
+    public static SaveData read(Path file) throws IOException {
+        return decode(readFile(file));
+    }
+
+    /**
+     * Lit un petit fichier en entier dans un tampon.
+     *
+     * @param file Le fichier à lire.
+     * @return Un tampon prêt à être lu, contenant le fichier complet.
+     * @throws IOException Si le fichier ne peut pas être lu ou dépasse la taille maximale.
+     */
+    static ByteBuffer readFile(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > MAX_FILE_SIZE) {
+                throw new IOException("fichier de sauvegarde trop volumineux (" + size + " octets)");
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // Lecture jusqu'à la fin du fichier
+            }
+            buffer.flip();
+            return buffer;
+        }
+    }
+
+    /**
+     * Écrit un fichier de sauvegarde de manière atomique : fichier temporaire, écriture forcée sur le disque,
+     * puis renommage sur le fichier de sauvegarde.
+     *
+     * @param data Les données à enregistrer.
+     * @param file Le fichier de sauvegarde.
+     * @throws IOException Si le fichier ne peut pas être écrit.
+     */
+    public static void write(SaveData data, Path file) throws IOException {
+        writeAtomically(encode(data), file);
+    }
+
+    /**
+     * Écrit le contenu d'un tampon dans un fichier de manière atomique.
+     *
+     * @param buffer Le contenu du fichier, prêt à être lu.
+     * @param file Le fichier à écrire.
+     * @throws IOException Si le fichier ne peut pas être écrit.
+     */
+    static void writeAtomically(ByteBuffer buffer, Path file) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        try {
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Lit un ancien fichier de sauvegarde écrit par sérialisation Java.
+     *
+     * @param file L'ancien fichier de sauvegarde.
+     * @return Les données de sauvegarde.
+     * @throws IOException Si le fichier ne peut pas être lu.
+     */
+    public static SaveData readLegacy(Path file) throws IOException {
+        try (InputStream input = Files.newInputStream(file); ObjectInputStream ois = new ObjectInputStream(input)) {
+            return (SaveData) ois.readObject();
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new IOException("ancienne sauvegarde illisible : " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Calcule la somme de contrôle des premiers octets d'un tableau.
+     */
+    static int checksum(byte[] bytes, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, length);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Encode une chaîne en UTF-8, ou retourne null pour une chaîne absente.
+     */
+    static byte[] bytes(String value) {
+        if (value == null) {
+            return null;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length >= NO_STRING) {
+            throw new IllegalArgumentException("Chaîne trop longue pour la sauvegarde : " + value.length() + " caractères");
+        }
+        return bytes;
+    }
+
+    /**
+     * Retourne la taille encodée d'une chaîne, longueur comprise.
+     */
+    static int stringSize(byte[] bytes) {
+        return 2 + (bytes != null ? bytes.length : 0);
+    }
+
+    /**
+     * Écrit une chaîne précédée de sa longueur.
+     */
+    static void putString(ByteBuffer buffer, byte[] bytes) {
+        if (bytes == null) {
+            buffer.putShort((short) NO_STRING);
+            return;
+        }
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+    }
+
+    /**
+     * Lit une chaîne précédée de sa longueur.
+     */
+    static String getString(ByteBuffer buffer) {
+        int length = buffer.getShort() & 0xFFFF;
+        if (length == NO_STRING) {
+            return null;
+        }
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+}
@@ -0,0 +1,338 @@
+package com.mygame.utils.saver;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * La classe {@code SaveStore} gère les emplacements de sauvegarde du jeu ({@value #SLOT_COUNT} parties distinctes).
+ * <p>
+ * Chaque emplacement est enregistré dans son propre fichier au format de {@link SaveFormat}
+ * ({@code saves/slot1.dat}, ...). Un petit fichier d'index ({@code saves/index.dat}) décrit tous les emplacements
+ * — nom du dernier niveau, pièces, temps de jeu, date — afin que le menu puisse les lister en lisant un seul fichier,
+ * quelle que soit la taille des sauvegardes. L'index est lu une seule fois puis gardé en mémoire ;
+ * une sauvegarde n'est lue qu'au moment où le joueur la reprend.
+ * </p>
+ * <p>
+ * Chaque enregistrement écrit la sauvegarde, puis l'index, tous deux de manière atomique. Si l'index est absent
+ * ou illisible, il est reconstruit à partir des sauvegardes présentes ; l'ancienne sauvegarde unique
+ * ({@code savegame.dat} ou {@code savegame.ser}) est alors importée dans le premier emplacement.
+ * Cette classe est un Singleton, utilisable depuis le thread de rendu comme depuis le thread de sauvegarde.
+ * </p>
+ */
+public class SaveStore {
+
+    /**
+     * Nombre d'emplacements de sauvegarde.
+     */
+    public static final int SLOT_COUNT = 3;
+
+    private static final String DIRECTORY = "saves";       // Dossier des sauvegardes
+    private static final String INDEX_FILE = "index.dat";  // Nom du fichier d'index
+    private static final int INDEX_MAGIC = 0x52475349;     // Signature "RGSI"
+    private static final short INDEX_VERSION = 1;           // Version actuelle du format de l'index
+
+    // Instance unique de SaveStore
+    private static SaveStore instance = null;
+
+    private final Path directory;  // Dossier contenant l'index et les sauvegardes
+    private SlotInfo[] slots;      // Index en mémoire, null tant qu'il n'a pas été lu
+
+    /**
+     * Constructeur d'un ensemble d'emplacements dans un dossier donné.
+     *
+     * @param directory Le dossier des sauvegardes, créé à la première écriture.
+     */
+    public SaveStore(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Méthode pour obtenir l'instance unique de SaveStore, qui utilise le dossier {@code saves}.
+     *
+     * @return L'instance unique de SaveStore.
+     */
+    public static synchronized SaveStore getInstance() {
+        if (instance == null) {
+            instance = new SaveStore(Paths.get(DIRECTORY));
+        }
+        return instance;
+    }
+
+    /**
+     * Retourne la description de tous les emplacements, sans lire les sauvegardes.
+     * Seul le premier appel lit le fichier d'index.
+     *
+     * @return Un tableau de {@value #SLOT_COUNT} emplacements, vides ou occupés.
+     */
+    public synchronized SlotInfo[] listSlots() {
+        return getSlots().clone();
+    }
+
+    /**
+     * Retourne l'emplacement sauvegardé le plus récemment.
+     *
+     * @return Le numéro de l'emplacement, ou -1 si tous les emplacements sont vides.
+     */
+    public synchronized int getMostRecentSlot() {
+        int mostRecent = -1;
+        for (SlotInfo info : getSlots()) {
+            if (!info.isEmpty() && (mostRecent == -1 || info.getSavedAtMillis() > slots[mostRecent].getSavedAtMillis())) {
+                mostRecent = info.getSlot();
+            }
+        }
+        return mostRecent;
+    }
+
+    /**
+     * Retourne l'emplacement à utiliser pour une nouvelle partie : le premier emplacement vide,
+     * ou à défaut celui dont la sauvegarde est la plus ancienne.
+     *
+     * @return Le numéro de l'emplacement.
+     */
+    public synchronized int getSlotForNewGame() {
+        int oldest = 0;
+        for (SlotInfo info : getSlots()) {
+            if (info.isEmpty()) {
+                return info.getSlot();
+            }
+            if (info.getSavedAtMillis() < slots[oldest].getSavedAtMillis()) {
+                oldest = info.getSlot();
+            }
+        }
+        return oldest;
+    }
+
+    /**
+     * Charge la sauvegarde d'un emplacement.
+     *
+     * @param slot Le numéro de l'emplacement.
+     * @return Les données de sauvegarde, ou null si l'emplacement est vide ou illisible.
+     */
+    public synchronized SaveData load(int slot) {
+        checkSlot(slot);
+        if (getSlots()[slot].isEmpty()) {
+            return null;
+        }
+        try {
+            return SaveFormat.read(slotFile(slot));
+        } catch (IOException e) {
+            System.err.println("Échec du chargement de l'emplacement " + (slot + 1) + " : " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Enregistre une sauvegarde dans un emplacement et met à jour l'index.
+     *
+     * @param slot Le numéro de l'emplacement.
+     * @param data Les données à enregistrer.
+     * @throws IOException Si la sauvegarde ou l'index ne peuvent pas être écrits.
+     */
+    public synchronized void save(int slot, SaveData data) throws IOException {
+        checkSlot(slot);
+        SlotInfo[] current = getSlots();
+        Files.createDirectories(directory);
+        SaveFormat.write(data, slotFile(slot));
+        current[slot] = describe(slot, data, System.currentTimeMillis());
+        SaveFormat.writeAtomically(encodeIndex(current), directory.resolve(INDEX_FILE));
+    }
+
+    /**
+     * Retourne l'index en mémoire, en le lisant ou en le reconstruisant au premier appel.
+     */
+    private SlotInfo[] getSlots() {
+        if (slots == null) {
+            Path indexFile = directory.resolve(INDEX_FILE);
+            if (Files.exists(indexFile)) {
+                try {
+                    slots = decodeIndex(SaveFormat.readFile(indexFile));
+                    return slots;
+                } catch (IOException e) {
+                    System.err.println("Index des sauvegardes illisible, reconstruction : " + e.getMessage());
+                }
+            }
+            slots = rebuildIndex();
+        }
+        return slots;
+    }
+
+    /**
+     * Reconstruit l'index à partir des sauvegardes présentes, en important l'ancienne sauvegarde unique
+     * si aucun emplacement n'est occupé.
+     */
+    private SlotInfo[] rebuildIndex() {
+        SlotInfo[] rebuilt = new SlotInfo[SLOT_COUNT];
+        boolean found = false;
+        for (int slot = 0; slot < SLOT_COUNT; slot++) {
+            rebuilt[slot] = SlotInfo.empty(slot);
+            Path file = slotFile(slot);
+            if (Files.exists(file)) {
+                try {
+                    rebuilt[slot] = describe(slot, SaveFormat.read(file), Files.getLastModifiedTime(file).toMillis());
+                    found = true;
+                } catch (IOException e) {
+                    System.err.println("Emplacement " + (slot + 1) + " ignoré : " + e.getMessage());
+                }
+            }
+        }
+        slots = rebuilt;
+        if (!found) {
+            importLegacySave();
+        } else {
+            try {
+                SaveFormat.writeAtomically(encodeIndex(rebuilt), directory.resolve(INDEX_FILE));
+            } catch (IOException e) {
+                System.err.println("Écriture de l'index des sauvegardes impossible : " + e.getMessage());
+            }
+        }
+        return slots;
+    }
+
+    /**
+     * Importe l'ancienne sauvegarde unique dans le premier emplacement. Une fois la nouvelle sauvegarde écrite,
+     * l'ancien fichier est renommé avec l'extension {@code .bak} plutôt que supprimé : il reste récupérable
+     * et n'est plus importé aux lancements suivants.
+     * <p>
+     * Si {@code savegame.dat} et {@code savegame.ser} existent tous les deux, seul {@code savegame.dat}
+     * (le plus récent des deux formats) est importé ; {@code savegame.ser} est alors signalé
+     * puis lui aussi conservé en {@code .bak}.
+     * </p>
+     */
+    private void importLegacySave() {
+        Path saveFile = Paths.get(SaveFormat.SAVE_FILE);
+        Path legacyFile = Paths.get(SaveFormat.LEGACY_SAVE_FILE);
+        boolean hasSave = Files.exists(saveFile);
+        boolean hasLegacy = Files.exists(legacyFile);
+        if (!hasSave && !hasLegacy) {
+            return;
+        }
+        Path source = hasSave ? saveFile : legacyFile;
+        try {
+            SaveData data = hasSave ? SaveFormat.read(saveFile) : SaveFormat.readLegacy(legacyFile);
+            save(0, data);
+            Path backup = backupLegacySave(source);
+            System.out.println("Ancienne sauvegarde importée dans l'emplacement 1 : " + source + " (copie conservée : " + backup + ")");
+        } catch (IOException e) {
+            System.err.println("Import de l'ancienne sauvegarde impossible : " + e.getMessage());
+            return;
+        }
+        if (hasSave && hasLegacy) {
+            try {
+                Path backup = backupLegacySave(legacyFile);
+                System.err.println("Sauvegarde " + legacyFile + " ignorée : " + saveFile + " a été importée à sa place"
+                    + " (copie conservée : " + backup + ")");
+            } catch (IOException e) {
+                System.err.println("Sauvegarde " + legacyFile + " ignorée, copie impossible : " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Renomme une ancienne sauvegarde en {@code <nom>.bak}, en remplaçant une copie précédente.
+     *
+     * @return Le fichier de copie.
+     */
+    private static Path backupLegacySave(Path source) throws IOException {
+        Path backup = source.resolveSibling(source.getFileName() + ".bak");
+        Files.move(source, backup, StandardCopyOption.REPLACE_EXISTING);
+        return backup;
+    }
+
+    /**
+     * Décrit une sauvegarde pour l'index.
+     */
+    private static SlotInfo describe(int slot, SaveData data, long savedAtMillis) {
+        String levelName = data.getLastLevel() != null ? data.getLastLevel().getName() : null;
+        return new SlotInfo(slot, levelName, data.getCoins(), data.getPlayTimeMillis(), savedAtMillis);
+    }
+
+    /**
+     * Encode l'index : signature {@code RGSI}, version, nombre d'emplacements, puis pour chacun
+     * sa date (0 si vide) suivie, s'il est occupé, du nom du niveau, des pièces et du temps de jeu ;
+     * enfin la somme de contrôle CRC-32.
+     */
+    private static ByteBuffer encodeIndex(SlotInfo[] infos) {
+        byte[][] names = new byte[infos.length][];
+        int size = 4 + 2 + 2 + 4;
+        for (int i = 0; i < infos.length; i++) {
+            size += 8;
+            if (!infos[i].isEmpty()) {
+                names[i] = SaveFormat.bytes(infos[i].getLevelName());
+                size += SaveFormat.stringSize(names[i]) + 4 + 8;
+            }
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(INDEX_MAGIC);
+        buffer.putShort(INDEX_VERSION);
+        buffer.putShort((short) infos.length);
+        for (int i = 0; i < infos.length; i++) {
+            buffer.putLong(infos[i].getSavedAtMillis());
+            if (!infos[i].isEmpty()) {
+                SaveFormat.putString(buffer, names[i]);
+                buffer.putInt(infos[i].getCoins());
+                buffer.putLong(infos[i].getPlayTimeMillis());
+            }
+        }
+        buffer.putInt(SaveFormat.checksum(buffer.array(), buffer.position()));
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Décode l'index. Les emplacements au-delà de {@value #SLOT_COUNT} sont ignorés, ceux qui manquent sont vides.
+     */
+    private static SlotInfo[] decodeIndex(ByteBuffer buffer) throws IOException {
+        try {
+            int end = buffer.limit();
+            if (end < 12 || buffer.getInt() != INDEX_MAGIC) {
+                throw new IOException("ce n'est pas un index de sauvegardes");
+            }
+            short version = buffer.getShort();
+            if (version > INDEX_VERSION) {
+                throw new IOException("format d'index " + version + " plus récent que le jeu (" + INDEX_VERSION + ")");
+            }
+            if (SaveFormat.checksum(buffer.array(), end - 4) != buffer.getInt(end - 4)) {
+                throw new IOException("somme de contrôle invalide");
+            }
+
+            int count = buffer.getShort() & 0xFFFF;
+            SlotInfo[] infos = new SlotInfo[SLOT_COUNT];
+            for (int slot = 0; slot < count; slot++) {
+                long savedAtMillis = buffer.getLong();
+                SlotInfo info = savedAtMillis == 0 ? SlotInfo.empty(slot)
+                    : new SlotInfo(slot, SaveFormat.getString(buffer), buffer.getInt(), buffer.getLong(), savedAtMillis);
+                if (slot < SLOT_COUNT) {
+                    infos[slot] = info;
+                }
+            }
+            for (int slot = count; slot < SLOT_COUNT; slot++) {
+                infos[slot] = SlotInfo.empty(slot);
+            }
+            return infos;
+        } catch (BufferUnderflowException e) {
+            throw new IOException("index des sauvegardes tronqué", e);
+        }
+    }
+
+    /**
+     * Retourne le fichier de sauvegarde d'un emplacement.
+     */
+    private Path slotFile(int slot) {
+        return directory.resolve("slot" + (slot + 1) + ".dat");
+    }
+
+    /**
+     * Vérifie qu'un numéro d'emplacement est valide.
+     */
+    private static void checkSlot(int slot) {
+        if (slot < 0 || slot >= SLOT_COUNT) {
+            throw new IllegalArgumentException("Emplacement de sauvegarde invalide : " + slot);
+        }
+    }
+}
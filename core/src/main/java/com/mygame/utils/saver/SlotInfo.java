@@ -0,0 +1,107 @@
+package com.mygame.utils.saver;
+
+/**
+ * La classe {@code SlotInfo} décrit un emplacement de sauvegarde tel qu'il est enregistré dans l'index du
+ * {@link SaveStore} : de quoi l'afficher dans le menu sans lire la sauvegarde elle-même.
+ * Les instances sont immuables.
+ */
+public class SlotInfo {
+
+    private final int slot;              // Numéro de l'emplacement (à partir de 0)
+    private final String levelName;      // Nom du dernier niveau, ou null si l'emplacement est vide
+    private final int coins;             // Nombre de pièces collectées
+    private final long playTimeMillis;   // Temps de jeu total (en millisecondes)
+    private final long savedAtMillis;    // Date de la dernière sauvegarde (en millisecondes depuis l'époque Unix)
+
+    /**
+     * Constructeur d'un emplacement occupé.
+     *
+     * @param slot Le numéro de l'emplacement.
+     * @param levelName Le nom du dernier niveau.
+     * @param coins Le nombre de pièces collectées.
+     * @param playTimeMillis Le temps de jeu total (en millisecondes).
+     * @param savedAtMillis La date de la dernière sauvegarde (en millisecondes depuis l'époque Unix).
+     */
+    public SlotInfo(int slot, String levelName, int coins, long playTimeMillis, long savedAtMillis) {
+        this.slot = slot;
+        this.levelName = levelName;
+        this.coins = coins;
+        this.playTimeMillis = playTimeMillis;
+        this.savedAtMillis = savedAtMillis;
+    }
+
+    /**
+     * Crée la description d'un emplacement vide.
+     *
+     * @param slot Le numéro de l'emplacement.
+     * @return Un emplacement vide.
+     */
+    public static SlotInfo empty(int slot) {
+        return new SlotInfo(slot, null, 0, 0, 0);
+    }
+
+    /**
+     * Retourne le numéro de l'emplacement.
+     *
+     * @return Le numéro de l'emplacement (à partir de 0).
+     */
+    public int getSlot() {
+        return slot;
+    }
+
+    /**
+     * Indique si l'emplacement ne contient aucune sauvegarde.
+     *
+     * @return {@code true} si l'emplacement est vide.
+     */
+    public boolean isEmpty() {
+        return savedAtMillis == 0;
+    }
+
+    /**
+     * Retourne le nom du dernier niveau atteint.
+     *
+     * @return Le nom du niveau, ou null si l'emplacement est vide ou la partie pas encore commencée.
+     */
+    public String getLevelName() {
+        return levelName;
+    }
+
+    /**
+     * Retourne le nombre de pièces collectées.
+     *
+     * @return Le nombre de pièces.
+     */
+    public int getCoins() {
+        return coins;
+    }
+
+    /**
+     * Retourne le temps de jeu total.
+     *
+     * @return Le temps de jeu (en millisecondes).
+     */
+    public long getPlayTimeMillis() {
+        return playTimeMillis;
+    }
+
+    /**
+     * Retourne la date de la dernière sauvegarde.
+     *
+     * @return La date (en millisecondes depuis l'époque Unix), ou 0 si l'emplacement est vide.
+     */
+    public long getSavedAtMillis() {
+        return savedAtMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "SlotInfo{" +
+            "slot=" + slot +
+            ", levelName=" + levelName +
+            ", coins=" + coins +
+            ", playTimeMillis=" + playTimeMillis +
+            ", savedAtMillis=" + savedAtMillis +
+            '}';
+    }
+}
@@ -1,14 +1,11 @@
 package com.mygame.validation;
 
-import com.badlogic.gdx.maps.MapLayer;
-import com.badlogic.gdx.maps.tiled.TiledMap;
-
 /**
  * Un validateur qui vérifie la présence d'un layer "teleporter" dans une carte.
  * Ce layer est supposé représenter la sortie du niveau. Si ce layer est manquant
  * ou vide, la carte est considérée comme invalide.
  */
-public class ExitExistsValidator extends AbstractValidator<TiledMap> {
+public class ExitExistsValidator extends AbstractValidator<MapStructure> {
 
     /**
      * Valide la carte en vérifiant si le layer "teleporter" existe et contient des objets.
@@ -17,9 +14,8 @@ public class ExitExistsValidator extends AbstractValidator<TiledMap> {
      * @return true si le layer "teleporter" est présent et contient des objets, sinon false.
      */
     @Override
-    public boolean validate(TiledMap map) {
-        MapLayer exitLayer = map.getLayers().get("teleporter");
-        if (exitLayer == null || exitLayer.getObjects().getCount() == 0) {
+    public boolean validate(MapStructure map) {
+        if (!map.hasLayer("teleporter") || map.getObjectCount("teleporter") == 0) {
             return false;  // La carte est invalide si le layer "exit" est manquant ou vide
         }
 
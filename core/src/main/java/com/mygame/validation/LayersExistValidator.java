@@ -1,9 +1,7 @@
 package com.mygame.validation;
 
-import com.badlogic.gdx.maps.tiled.TiledMap;
-
 /**
- * La classe {@code LayersExistValidator} est un validateur qui vérifie la présence des layers nécessaires dans une carte {@code TiledMap}.
+ * La classe {@code LayersExistValidator} est un validateur qui vérifie la présence des layers nécessaires dans une carte, décrite par sa {@link MapStructure}.
  * <p>
  * Ce validateur s'assure que les layers suivants existent dans la carte : "entity", "teleporter" et "obstacles". Si l'un de ces layers
  * est manquant, la validation échoue et la carte est considérée comme invalide.
@@ -15,27 +13,27 @@ import com.badlogic.gdx.maps.tiled.TiledMap;
  * </p>
  *
  * @see AbstractValidator
- * @see TiledMap
+ * @see MapStructure
  */
-public class LayersExistValidator extends AbstractValidator<TiledMap> {
+public class LayersExistValidator extends AbstractValidator<MapStructure> {
 
     /**
-     * Valide la carte {@code TiledMap} en vérifiant la présence des layers "entity", "teleporter" et "obstacles".
+     * Valide la carte {@link MapStructure} en vérifiant la présence des layers "entity", "teleporter" et "obstacles".
      *
      * <p>
      * Cette méthode vérifie si les layers requis existent dans la carte. Si l'un des layers est manquant, la validation échoue
      * et la méthode retourne {@code false}.
      * </p>
      *
-     * @param map La carte {@code TiledMap} à valider.
+     * @param map La carte {@link MapStructure} à valider.
      * @return {@code true} si tous les layers nécessaires existent, {@code false} sinon.
      */
     @Override
-    public boolean validate(TiledMap map) {
+    public boolean validate(MapStructure map) {
         // Vérification de la présence des layers nécessaires
-        if (map.getLayers().get("entity") == null ||
-            map.getLayers().get("teleporter") == null ||
-            map.getLayers().get("obstacles") == null) {
+        if (!map.hasLayer("entity") ||
+            !map.hasLayer("teleporter") ||
+            !map.hasLayer("obstacles")) {
             return false;  // La carte est invalide
         }
 
@@ -0,0 +1,105 @@
+package com.mygame.validation;
+
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * La classe {@code MapStructure} résume la structure d'une carte Tiled utile aux validateurs :
+ * les noms de ses couches, le nombre d'objets de chaque couche et le nombre d'objets de chaque type.
+ * <p>
+ * Ce résumé peut être construit à partir d'une {@link TiledMap} déjà chargée ({@link #of(TiledMap)}),
+ * ou directement depuis le fichier .tmx par le {@link TmxStreamValidator}, sans charger la carte.
+ * Comme pour {@code MapLayers.get(String)}, seules les couches de premier niveau sont prises en compte,
+ * et seule la première couche portant un nom donné.
+ * </p>
+ */
+public class MapStructure {
+
+    private final ObjectIntMap<String> objectCounts = new ObjectIntMap<>();               // Nombre d'objets par couche
+    private final ObjectMap<String, ObjectIntMap<String>> typeCounts = new ObjectMap<>(); // Nombre d'objets par type, par couche
+
+    /**
+     * Construit la structure d'une carte déjà chargée.
+     *
+     * @param map La carte Tiled.
+     * @return La structure de la carte.
+     */
+    public static MapStructure of(TiledMap map) {
+        MapStructure structure = new MapStructure();
+        for (MapLayer layer : map.getLayers()) {
+            if (structure.addLayer(layer.getName())) {
+                for (MapObject object : layer.getObjects()) {
+                    structure.addObject(layer.getName(), object.getProperties().get("type", String.class));
+                }
+            }
+        }
+        return structure;
+    }
+
+    /**
+     * Déclare une couche.
+     *
+     * @param name Le nom de la couche.
+     * @return {@code true} si c'est la première couche portant ce nom, dont les objets doivent être comptés.
+     */
+    boolean addLayer(String name) {
+        if (name == null || objectCounts.containsKey(name)) {
+            return false;
+        }
+        objectCounts.put(name, 0);
+        return true;
+    }
+
+    /**
+     * Compte un objet d'une couche.
+     *
+     * @param layer Le nom de la couche.
+     * @param type Le type de l'objet (propriété "type"), ou null.
+     */
+    void addObject(String layer, String type) {
+        objectCounts.getAndIncrement(layer, 0, 1);
+        if (type != null) {
+            ObjectIntMap<String> types = typeCounts.get(layer);
+            if (types == null) {
+                types = new ObjectIntMap<>();
+                typeCounts.put(layer, types);
+            }
+            types.getAndIncrement(type, 0, 1);
+        }
+    }
+
+    /**
+     * Indique si la carte contient une couche portant le nom donné.
+     *
+     * @param layer Le nom de la couche.
+     * @return {@code true} si la couche existe.
+     */
+    public boolean hasLayer(String layer) {
+        return objectCounts.containsKey(layer);
+    }
+
+    /**
+     * Retourne le nombre d'objets d'une couche.
+     *
+     * @param layer Le nom de la couche.
+     * @return Le nombre d'objets, ou 0 si la couche n'existe pas.
+     */
+    public int getObjectCount(String layer) {
+        return objectCounts.get(layer, 0);
+    }
+
+    /**
+     * Retourne le nombre d'objets d'une couche ayant un type donné (propriété "type").
+     *
+     * @param layer Le nom de la couche.
+     * @param type Le type recherché.
+     * @return Le nombre d'objets de ce type dans la couche.
+     */
+    public int getObjectCount(String layer, String type) {
+        ObjectIntMap<String> types = typeCounts.get(layer);
+        return types != null ? types.get(type, 0) : 0;
+    }
+}
@@ -14,6 +14,12 @@ import com.badlogic.gdx.maps.tiled.TiledMap;
  */
 public class MapValidator extends AbstractValidator<TiledMap> {
 
+    /**
+     * Version de la chaîne de validateurs, enregistrée avec les résultats du {@link ValidationCache}.
+     * Elle doit être incrémentée à chaque modification des règles de validation.
+     */
+    public static final int VERSION = 1;
+
     /**
      * Méthode principale qui valide la carte en chaîne à l'aide des validateurs spécifiques.
      *
@@ -30,6 +36,18 @@ public class MapValidator extends AbstractValidator<TiledMap> {
      */
     @Override
     public boolean validate(TiledMap map) {
+        return validate(MapStructure.of(map));
+    }
+
+    /**
+     * Valide la structure d'une carte avec la chaîne de validateurs.
+     * La structure peut provenir d'une carte chargée ou d'une lecture directe du fichier .tmx ({@link TmxStreamValidator}).
+     *
+     * @param map La structure de la carte à valider.
+     * @return {@code true} si tous les validateurs passent et que la carte est valide,
+     *         {@code false} sinon.
+     */
+    public boolean validate(MapStructure map) {
         // Création des validateurs
         LayersExistValidator layersValidator = new LayersExistValidator();
         ExitExistsValidator exitValidator = new ExitExistsValidator();
@@ -1,12 +1,8 @@
 package com.mygame.validation;
 
-import com.badlogic.gdx.maps.MapLayer;
-import com.badlogic.gdx.maps.MapObject;
-import com.badlogic.gdx.maps.tiled.TiledMap;
-
 /**
  * La classe {@code SinglePlayerValidator} est un validateur qui vérifie qu'il y a exactement un objet "player"
- * dans le layer "entity" d'une carte de type {@code TiledMap}.
+ * dans le layer "entity" d'une carte, décrite par sa {@link MapStructure}.
  * <p>
  * Ce validateur s'assure que le layer "entity" existe et contient au moins un objet ayant une propriété
  * "name" égale à "player". Il valide également que ce layer contient exactement un objet "player".
@@ -19,39 +15,31 @@ import com.badlogic.gdx.maps.tiled.TiledMap;
  * </p>
  *
  * @see AbstractValidator
- * @see TiledMap
+ * @see MapStructure
  */
-public class SinglePlayerValidator extends AbstractValidator<TiledMap> {
+public class SinglePlayerValidator extends AbstractValidator<MapStructure> {
 
     /**
-     * Valide la carte {@code TiledMap} en vérifiant qu'il existe un et un seul objet "player" dans le layer "entity".
+     * Valide la carte {@link MapStructure} en vérifiant qu'il existe un et un seul objet "player" dans le layer "entity".
      *
      * <p>
      * Cette méthode récupère le layer "entity" de la carte, puis parcourt les objets de ce layer pour compter ceux
      * qui ont une propriété "type" égale à "player". Si ce nombre n'est pas exactement 1, la validation échoue.
      * </p>
      *
-     * @param map La carte {@code TiledMap} à valider.
+     * @param map La carte {@link MapStructure} à valider.
      * @return {@code true} si la carte contient exactement un objet "player" dans le layer "entity", {@code false}
      *         sinon.
      */
     @Override
-    public boolean validate(TiledMap map) {
+    public boolean validate(MapStructure map) {
         // Récupérer le layer "entity"
-        MapLayer entityLayer = map.getLayers().get("entity");
-        if (entityLayer == null || entityLayer.getObjects().getCount() == 0) {
+        if (!map.hasLayer("entity") || map.getObjectCount("entity") == 0) {
             return false;  // Layer "entity" manquant ou vide
         }
 
-        // Compter les objets avec la propriété "name" égale à "player"
-        int playerCount = 0;
-        for (MapObject object : entityLayer.getObjects()) {
-            // Vérifier si l'objet contient une propriété "type"
-            String name = object.getProperties().get("type", String.class);
-            if ("player".equals(name)) {
-                playerCount++;
-            }
-        }
+        // Compter les objets avec la propriété "type" égale à "player"
+        int playerCount = map.getObjectCount("entity", "player");
 
         // Valider qu'il y a exactement un "player"
         if (playerCount != 1) {
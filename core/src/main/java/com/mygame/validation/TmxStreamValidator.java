@@ -0,0 +1,178 @@
+package com.mygame.validation;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.ObjectMap;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * La classe {@code TmxStreamValidator} valide un fichier de carte Tiled (.tmx) sans charger la carte.
+ * <p>
+ * Le fichier est lu en un seul passage par un lecteur StAX : seuls les noms des couches de premier niveau
+ * et les objets des couches d'objets sont relevés dans une {@link MapStructure}, qui est ensuite soumise
+ * à la même chaîne de validateurs que les cartes chargées ({@link MapValidator}). Les données des tuiles
+ * et les tilesets sont ignorés, aucune texture n'est créée.
+ * </p>
+ * <p>
+ * Le type d'un objet est lu comme le fait le {@code TmxMapLoader} : propriété "type" de l'objet, sinon
+ * attribut "type" (ou "class"), sinon type du modèle d'objet ({@code template}) s'il existe.
+ * </p>
+ */
+public class TmxStreamValidator extends AbstractValidator<FileHandle> {
+
+    private final MapValidator mapValidator = new MapValidator();          // Chaîne de validateurs appliquée à la structure
+    private final ObjectMap<String, String> templateTypes = new ObjectMap<>(); // Type des modèles d'objets déjà lus, par chemin
+
+    /**
+     * Valide un fichier de carte Tiled.
+     *
+     * @param mapFile Le fichier .tmx à valider.
+     * @return {@code true} si le fichier est lisible et que la carte respecte toutes les règles, sinon {@code false}.
+     */
+    @Override
+    public boolean validate(FileHandle mapFile) {
+        MapStructure structure;
+        try {
+            structure = read(mapFile);
+        } catch (XMLStreamException | IOException e) {
+            System.err.println("Lecture de la carte " + mapFile.path() + " impossible : " + e.getMessage());
+            return false;
+        }
+
+        if (!mapValidator.validate(structure)) {
+            return false;
+        }
+
+        // Si un validateur suivant existe, on le vérifie aussi
+        return next == null || next.validate(mapFile);
+    }
+
+    /**
+     * Lit la structure d'un fichier de carte Tiled en un seul passage.
+     *
+     * @param mapFile Le fichier .tmx à lire.
+     * @return La structure de la carte.
+     * @throws XMLStreamException Si le fichier n'est pas un XML valide.
+     * @throws IOException Si le fichier ne peut pas être lu.
+     */
+    public MapStructure read(FileHandle mapFile) throws XMLStreamException, IOException {
+        MapStructure structure = new MapStructure();
+
+        try (InputStream input = mapFile.read()) {
+            XMLStreamReader reader = createReader(input);
+            try {
+                int depth = 0;              // Profondeur de l'élément courant (1 pour <map>)
+                String layer = null;        // Couche d'objets de premier niveau en cours de lecture, dont les objets sont comptés
+                boolean inObject = false;   // Vrai à l'intérieur d'un <object> de cette couche
+                String propertyType = null; // Propriété "type" de l'objet courant
+                String attributeType = null; // Attribut "type" ou "class" de l'objet courant
+                String template = null;     // Modèle de l'objet courant
+
+                while (reader.hasNext()) {
+                    int event = reader.next();
+                    if (event == XMLStreamConstants.START_ELEMENT) {
+                        depth++;
+                        String element = reader.getLocalName();
+
+                        if (depth == 2 && isLayer(element)) {
+                            // Couche de premier niveau : seuls les objets de la première couche d'un nom donné sont comptés
+                            String name = reader.getAttributeValue(null, "name");
+                            layer = structure.addLayer(name) && "objectgroup".equals(element) ? name : null;
+                        } else if (depth == 3 && layer != null && "object".equals(element)) {
+                            inObject = true;
+                            propertyType = null;
+                            attributeType = reader.getAttributeValue(null, "type");
+                            if (attributeType == null) {
+                                attributeType = reader.getAttributeValue(null, "class");
+                            }
+                            template = reader.getAttributeValue(null, "template");
+                        } else if (depth == 5 && inObject && "property".equals(element)
+                            && "type".equals(reader.getAttributeValue(null, "name"))) {
+                            propertyType = reader.getAttributeValue(null, "value");
+                        }
+                    } else if (event == XMLStreamConstants.END_ELEMENT) {
+                        if (depth == 3 && inObject) {
+                            inObject = false;
+                            String type = propertyType != null ? propertyType : attributeType;
+                            if (type == null && template != null) {
+                                type = readTemplateType(mapFile.parent().child(template));
+                            }
+                            structure.addObject(layer, type);
+                        } else if (depth == 2) {
+                            layer = null;
+                        }
+                        depth--;
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        }
+
+        return structure;
+    }
+
+    /**
+     * Lit le type de l'objet défini par un modèle d'objet (.tx). Le résultat est mémorisé pour les objets suivants.
+     * Un modèle introuvable est ignoré, l'objet garde alors ses propres propriétés.
+     *
+     * @param templateFile Le fichier du modèle.
+     * @return Le type de l'objet du modèle, ou null.
+     */
+    private String readTemplateType(FileHandle templateFile) throws XMLStreamException, IOException {
+        String path = templateFile.path();
+        if (templateTypes.containsKey(path)) {
+            return templateTypes.get(path);
+        }
+
+        String type = null;
+        if (templateFile.exists()) {
+            try (InputStream input = templateFile.read()) {
+                XMLStreamReader reader = createReader(input);
+                try {
+                    while (reader.hasNext()) {
+                        if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+                            continue;
+                        }
+                        String element = reader.getLocalName();
+                        if ("object".equals(element) && type == null) {
+                            type = reader.getAttributeValue(null, "type");
+                            if (type == null) {
+                                type = reader.getAttributeValue(null, "class");
+                            }
+                        } else if ("property".equals(element) && "type".equals(reader.getAttributeValue(null, "name"))) {
+                            type = reader.getAttributeValue(null, "value");
+                        }
+                    }
+                } finally {
+                    reader.close();
+                }
+            }
+        }
+
+        templateTypes.put(path, type);
+        return type;
+    }
+
+    /**
+     * Indique si un élément de premier niveau de la carte est une couche.
+     */
+    private static boolean isLayer(String element) {
+        return "layer".equals(element) || "objectgroup".equals(element) || "imagelayer".equals(element) || "group".equals(element);
+    }
+
+    /**
+     * Crée un lecteur StAX sans résolution de DTD ni d'entités externes.
+     */
+    private static XMLStreamReader createReader(InputStream input) throws XMLStreamException {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory.createXMLStreamReader(input);
+    }
+}
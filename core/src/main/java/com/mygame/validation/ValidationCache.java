@@ -0,0 +1,107 @@
+package com.mygame.validation;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Preferences;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.ObjectMap;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+
+/**
+ * La classe {@code ValidationCache} mémorise, d'un lancement à l'autre, le résultat de la validation des cartes.
+ * <p>
+ * Le résultat est enregistré dans les préférences du jeu, pour chaque chemin de carte, avec la taille et
+ * l'empreinte SHA-256 du fichier ainsi que la version de la chaîne de validateurs ({@link MapValidator#VERSION}).
+ * Une carte inchangée n'a donc plus besoin d'être lue au démarrage, et toute modification du fichier
+ * ou des validateurs invalide automatiquement l'entrée.
+ * </p>
+ * <p>
+ * Les méthodes de consultation et d'enregistrement peuvent être appelées depuis plusieurs threads de validation ;
+ * l'écriture sur disque ({@link #flush()}) se fait en une seule fois, depuis le thread principal.
+ * </p>
+ */
+public class ValidationCache {
+
+    private static final String PREFS_NAME = "map_validation";
+
+    private final Preferences preferences;                               // Préférences où le cache est enregistré
+    private final ObjectMap<String, String> entries = new ObjectMap<>(); // Entrées du cache, par chemin de carte
+    private boolean dirty;                                               // Vrai si des entrées doivent être enregistrées
+
+    /**
+     * Constructeur du cache : charge les entrées enregistrées dans les préférences du jeu.
+     */
+    public ValidationCache() {
+        preferences = Gdx.app.getPreferences(PREFS_NAME);
+        for (Map.Entry<String, ?> entry : preferences.get().entrySet()) {
+            if (entry.getValue() instanceof String) {
+                entries.put(entry.getKey(), (String) entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Calcule la signature d'un fichier de carte : version des validateurs, taille et empreinte du contenu.
+     *
+     * @param mapFile Le fichier de carte.
+     * @return La signature du fichier.
+     */
+    public static String signature(FileHandle mapFile) {
+        byte[] content = mapFile.readBytes();
+        StringBuilder signature = new StringBuilder(80);
+        signature.append(MapValidator.VERSION).append(':').append(content.length).append(':');
+        try {
+            for (byte b : MessageDigest.getInstance("SHA-256").digest(content)) {
+                signature.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 est toujours disponible dans la JVM : la taille seule ne suffirait pas à détecter une modification
+            throw new IllegalStateException(e);
+        }
+        return signature.toString();
+    }
+
+    /**
+     * Recherche le résultat de validation d'une carte.
+     *
+     * @param mapPath Le chemin de la carte.
+     * @param signature La signature actuelle du fichier de carte.
+     * @return {@code Boolean.TRUE} ou {@code Boolean.FALSE} si la carte a déjà été validée avec cette signature,
+     *         ou {@code null} si elle doit être validée.
+     */
+    public synchronized Boolean get(String mapPath, String signature) {
+        String entry = entries.get(mapPath);
+        if (entry == null || !entry.startsWith(signature) || entry.length() != signature.length() + 2) {
+            return null;
+        }
+        return entry.charAt(entry.length() - 1) == '1';
+    }
+
+    /**
+     * Enregistre le résultat de validation d'une carte.
+     *
+     * @param mapPath Le chemin de la carte.
+     * @param signature La signature du fichier de carte validé.
+     * @param valid Le résultat de la validation.
+     */
+    public synchronized void put(String mapPath, String signature, boolean valid) {
+        entries.put(mapPath, signature + ":" + (valid ? '1' : '0'));
+        dirty = true;
+    }
+
+    /**
+     * Enregistre les nouvelles entrées dans les préférences du jeu.
+     */
+    public synchronized void flush() {
+        if (!dirty) {
+            return;
+        }
+        for (ObjectMap.Entry<String, String> entry : entries) {
+            preferences.putString(entry.key, entry.value);
+        }
+        preferences.flush();
+        dirty = false;
+    }
+}
@@ -0,0 +1,136 @@
+package com.mygame.view;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.utils.Scaling;
+import com.badlogic.gdx.utils.viewport.ScalingViewport;
+import com.mygame.utils.ResourceTracker;
+
+/**
+ * La classe {@code RenderContext} regroupe les ressources graphiques partagées par tous les niveaux :
+ * le {@link SpriteBatch}, le rendu de carte, les polices, la texture de l'icône des pièces, le stage du HUD
+ * et le {@link ShapeRenderer} de l'écran de chargement.
+ * <p>
+ * Ces ressources sont créées une seule fois, au premier niveau, puis réinitialisées à chaque changement de niveau
+ * au lieu d'être recréées : le rendu de carte reçoit simplement la nouvelle carte et le stage est vidé.
+ * Elles appartiennent au {@link com.mygame.controller.GameManager} et ne sont libérées qu'à la fermeture du jeu.
+ * </p>
+ */
+public class RenderContext {
+
+    private static final float UNIT_SCALE = 1 / 16f; // Échelle du rendu de carte (16 pixels par tuile)
+
+    private final SpriteBatch batch;                       // SpriteBatch partagé par le niveau et le HUD
+    private final OrthogonalTiledMapRenderer mapRenderer;  // Rendu de la carte du niveau en cours
+    private final BitmapFont font;                         // Police standard du HUD
+    private final BitmapFont largeFont;                    // Police agrandie, pour le nom du niveau
+    private final Texture coinTexture;                     // Icône des pièces du HUD
+    private final Stage hudStage;                          // Stage du HUD, vidé à chaque niveau
+    private final ShapeRenderer shapeRenderer;             // Rendu de formes (barre de progression du chargement)
+
+    /**
+     * Crée les ressources partagées. Doit être appelé sur le thread de rendu.
+     */
+    public RenderContext() {
+        batch = ResourceTracker.track(new SpriteBatch());
+        mapRenderer = ResourceTracker.track(new OrthogonalTiledMapRenderer(null, UNIT_SCALE, batch));
+
+        font = ResourceTracker.track(new BitmapFont());
+        largeFont = ResourceTracker.track(new BitmapFont());
+        largeFont.getData().setScale(2.5f); // Agrandir la taille de la police
+
+        coinTexture = ResourceTracker.track(new Texture("Entities/coin.png"));
+
+        // Le stage dessine avec le batch partagé, qu'il ne libère pas
+        hudStage = ResourceTracker.track(new Stage(new ScalingViewport(Scaling.stretch, Gdx.graphics.getWidth(),
+            Gdx.graphics.getHeight(), new OrthographicCamera()), batch));
+
+        shapeRenderer = ResourceTracker.track(new ShapeRenderer());
+    }
+
+    /**
+     * Retourne le SpriteBatch partagé.
+     *
+     * @return Le SpriteBatch.
+     */
+    public SpriteBatch getBatch() {
+        return batch;
+    }
+
+    /**
+     * Retourne le rendu de carte, configuré pour afficher la carte donnée.
+     *
+     * @param map La carte du niveau à afficher.
+     * @return Le rendu de carte.
+     */
+    public OrthogonalTiledMapRenderer getMapRenderer(TiledMap map) {
+        mapRenderer.setMap(map);
+        return mapRenderer;
+    }
+
+    /**
+     * Retourne la police standard du HUD.
+     *
+     * @return La police standard.
+     */
+    public BitmapFont getFont() {
+        return font;
+    }
+
+    /**
+     * Retourne la police agrandie du HUD.
+     *
+     * @return La police agrandie.
+     */
+    public BitmapFont getLargeFont() {
+        return largeFont;
+    }
+
+    /**
+     * Retourne la texture de l'icône des pièces.
+     *
+     * @return La texture de l'icône.
+     */
+    public Texture getCoinTexture() {
+        return coinTexture;
+    }
+
+    /**
+     * Retourne le rendu de formes partagé. Sa matrice de projection doit être définie par l'appelant.
+     *
+     * @return Le rendu de formes.
+     */
+    public ShapeRenderer getShapeRenderer() {
+        return shapeRenderer;
+    }
+
+    /**
+     * Retourne le stage du HUD, vidé des éléments du niveau précédent.
+     *
+     * @return Le stage du HUD, vide.
+     */
+    public Stage obtainHudStage() {
+        hudStage.clear();
+        return hudStage;
+    }
+
+    /**
+     * Libère toutes les ressources partagées, à la fermeture du jeu.
+     */
+    public void dispose() {
+        ResourceTracker.dispose(hudStage);
+        ResourceTracker.dispose(mapRenderer);
+        ResourceTracker.dispose(batch);
+        ResourceTracker.dispose(font);
+        ResourceTracker.dispose(largeFont);
+        ResourceTracker.dispose(coinTexture);
+        ResourceTracker.dispose(shapeRenderer);
+    }
+}
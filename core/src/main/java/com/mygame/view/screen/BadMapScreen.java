@@ -9,6 +9,7 @@ import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import com.mygame.controller.GameManager;
 import com.badlogic.gdx.Screen;
+import com.mygame.utils.ResourceTracker;
 
 /**
  * La classe {@code BadMapScreen} représente l'écran affiché lorsque les cartes dans le fichier JSON
@@ -20,6 +21,7 @@ import com.badlogic.gdx.Screen;
 public class BadMapScreen implements Screen {
 
     private Stage stage;  // Stage pour gérer les éléments d'interface utilisateur (UI)
+    private BitmapFont font;  // Police du message d'erreur
     private GameManager gameManager;  // Référence au gestionnaire du jeu
 
     /**
@@ -38,10 +40,11 @@ public class BadMapScreen implements Screen {
     @Override
     public void show() {
         // Créer un stage pour afficher des éléments à l'écran
-        stage = new Stage(new ScreenViewport());
+        stage = ResourceTracker.track(new Stage(new ScreenViewport()), this);
 
         // Créer un style de Label avec une police et une couleur rouge
-        Label.LabelStyle labelStyle = new Label.LabelStyle(new BitmapFont(), Color.RED);
+        font = ResourceTracker.track(new BitmapFont(), this);
+        Label.LabelStyle labelStyle = new Label.LabelStyle(font, Color.RED);
 
         // Créer un label pour le message d'erreur
         Label errorLabel = new Label("Aucune map valide est présente dans le JSON, veuillez les modifier et relancer le jeu", labelStyle);
@@ -88,12 +91,15 @@ public class BadMapScreen implements Screen {
 
     /**
      * Méthode appelée lorsque l'écran est caché.
-     * Elle libère les ressources associées au stage.
+     * Elle libère les ressources associées au stage et la police.
      */
     @Override
     public void hide() {
         // Libérer les ressources lorsque l'écran est caché
-        stage.dispose();
+        ResourceTracker.dispose(stage);
+        ResourceTracker.dispose(font);
+        stage = null;
+        font = null;
     }
 
     /**
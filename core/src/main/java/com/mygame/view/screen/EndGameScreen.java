@@ -16,6 +16,7 @@ import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.mygame.Main;
 import com.mygame.controller.GameManager;
+import com.mygame.utils.ResourceTracker;
 
 /**
  * L'écran de fin de jeu qui s'affiche lorsque le joueur termine une partie.
@@ -41,9 +42,9 @@ public class EndGameScreen implements Screen {
     public EndGameScreen(Main game, GameManager gameManager) {
         this.game = game;
         this.gameManager = gameManager;
-        this.stage = new Stage();
-        this.batch = new SpriteBatch();
-        this.font = new BitmapFont();
+        this.stage = ResourceTracker.track(new Stage(), this);
+        this.batch = ResourceTracker.track(new SpriteBatch(), this);
+        this.font = ResourceTracker.track(new BitmapFont(), this);
     }
 
     /**
@@ -112,7 +113,7 @@ public class EndGameScreen implements Screen {
         if (Gdx.input.isKeyJustPressed(Input.Keys.ENTER)) {
             gameManager.setCoin(0); // Réinitialiser les pièces collectées
             gameManager.setCurrentLevel(gameManager.getLevels().get(0)); // Redémarrer le niveau initial
-            game.setScreen(new LevelScreen(gameManager, gameManager.getLevels().get(0)));
+            gameManager.startLevel(gameManager.getLevels().get(0));
         }
         if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
             Gdx.app.exit(); // Quitter l'application
@@ -158,8 +159,8 @@ public class EndGameScreen implements Screen {
      */
     @Override
     public void dispose() {
-        batch.dispose();
-        font.dispose();
-        stage.dispose();
+        ResourceTracker.dispose(batch);
+        ResourceTracker.dispose(font);
+        ResourceTracker.dispose(stage);
     }
 }
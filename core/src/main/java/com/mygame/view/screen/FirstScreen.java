@@ -10,6 +10,7 @@ import com.badlogic.gdx.utils.Array;
 import com.mygame.Main;
 import com.mygame.controller.GameManager;
 import com.mygame.model.maps.Level;
+import com.mygame.utils.ResourceTracker;
 
 /**
  * L'écran d'accueil du jeu qui s'affiche avant le menu principal.
@@ -35,8 +36,8 @@ public class FirstScreen implements Screen {
         this.gameManager = gameManager;
         this.game = gameManager.getGame();
         this.levels = gameManager.getLevels();
-        batch = new SpriteBatch();
-        font = new BitmapFont(); // Police par défaut
+        batch = ResourceTracker.track(new SpriteBatch(), this);
+        font = ResourceTracker.track(new BitmapFont(), this); // Police par défaut
     }
 
     /**
@@ -113,7 +114,7 @@ public class FirstScreen implements Screen {
      */
     @Override
     public void dispose() {
-        batch.dispose();
-        font.dispose();
+        ResourceTracker.dispose(batch);
+        ResourceTracker.dispose(font);
     }
 }
@@ -1,14 +1,16 @@
 package com.mygame.view.screen.HUD;
 
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.scenes.scene2d.Stage;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.utils.StringBuilder;
 import com.mygame.model.LevelLoader;
 import com.mygame.model.entities.Player;
+import com.mygame.view.RenderContext;
 
 /**
  * La classe {@code GameHUD} est responsable de l'affichage de l'interface utilisateur
@@ -18,15 +20,17 @@ import com.mygame.model.entities.Player;
  * Le HUD se compose de plusieurs éléments graphiques tels que des labels pour le temps et les pièces,
  * ainsi que des images pour les icônes comme celle des pièces collectées.
  * </p>
+ * <p>
+ * Le stage, les polices et la texture de l'icône appartiennent au {@link RenderContext} partagé par tous les niveaux :
+ * le HUD ne crée que ses labels et les ajoute au stage vidé.
+ * </p>
  */
 public class GameHUD {
 
-    private Stage stage;                      // Stage qui contient les éléments du HUD
-    private LevelLoader levelLoader;          // Gestionnaire de niveaux, utilisé pour récupérer des informations sur le niveau actuel
+    private Stage stage;                      // Stage partagé qui contient les éléments du HUD
     private Player player;                    // Le joueur, utilisé pour obtenir les informations de score
     private BitmapFont font;                  // Police standard utilisée pour afficher les informations
     private BitmapFont largeFont;             // Police plus grande, utilisée pour le nom du niveau
-    private Skin skin;                        // Skin utilisé pour personnaliser l'apparence des éléments UI
 
     private Label timeLabel;                  // Label affichant le temps écoulé
     private Label coinsLabel;                 // Label affichant le nombre de pièces collectées
@@ -37,6 +41,12 @@ public class GameHUD {
     private boolean showLevelName;            // Indicateur pour afficher ou masquer le nom du niveau
     private int coinsCollected;               // Nombre de pièces collectées par le joueur
 
+    // Textes réutilisés : les labels ne sont reconstruits que lorsque la valeur affichée change
+    private final StringBuilder timeText = new StringBuilder(16);   // Texte du temps écoulé
+    private final StringBuilder coinsText = new StringBuilder(8);   // Texte du nombre de pièces
+    private int displayedSeconds = -1;        // Temps (en secondes) actuellement affiché
+    private int displayedCoins = -1;          // Nombre de pièces actuellement affiché
+
     /**
      * Constructeur de la classe {@code GameHUD}.
      *
@@ -45,41 +55,46 @@ public class GameHUD {
      * laps de temps au début du niveau.
      *
      * @param levelLoader Le gestionnaire de niveaux, utilisé pour récupérer les informations de niveau.
+     * @param renderContext Les ressources graphiques partagées (stage, polices et icône).
+     */
+    public GameHUD(LevelLoader levelLoader, RenderContext renderContext) {
+        this(levelLoader.getEntityFactory().getPlayer(), levelLoader.getLevel().getName(), renderContext.obtainHudStage(),
+            renderContext.getFont(), renderContext.getLargeFont(), renderContext.getCoinTexture());
+    }
+
+    /**
+     * Constructeur de la classe {@code GameHUD} à partir de ressources fournies explicitement,
+     * par exemple pour mesurer le HUD sans {@link RenderContext}.
+     *
+     * @param player Le joueur dont le score est affiché.
+     * @param levelName Le nom du niveau affiché au début du niveau.
+     * @param stage Le stage vidé qui reçoit les éléments du HUD.
+     * @param font La police standard.
+     * @param largeFont La police du nom du niveau.
+     * @param coinTexture La texture de l'icône des pièces.
      */
-    public GameHUD(LevelLoader levelLoader) {
-        this.levelLoader = levelLoader;
-        this.player = levelLoader.getEntityFactory().getPlayer(); // Récupérer le joueur à partir de l'EntityFactory
+    public GameHUD(Player player, String levelName, Stage stage, BitmapFont font, BitmapFont largeFont, Texture coinTexture) {
+        this.player = player;
         this.coinsCollected = 0; // Initialiser le compteur de pièces
         this.elapsedTime = 0; // Initialiser le temps à 0
         this.levelNameTimer = 3; // Durée d'affichage du nom du niveau
         this.showLevelName = true; // Commence avec le nom du niveau visible
 
-        // Initialisation du Stage
-        stage = new Stage();
-
-        // Initialisation des polices
-        font = new BitmapFont(); // Police standard
-        largeFont = new BitmapFont(); // Police pour le niveau
-        largeFont.getData().setScale(2.5f); // Agrandir la taille de la police
-
-        // Créer un Skin de manière programmatique
-        skin = new Skin();
-        skin.add("default-font", font);
-        skin.add("large-font", largeFont);
-        skin.add("white", new Color(1, 1, 1, 1));
-        skin.add("yellow", new Color(1, 1, 0, 1));
+        this.stage = stage;
+        this.font = font; // Police standard
+        this.largeFont = largeFont; // Police pour le niveau
 
         // Styles de labels
-        Label.LabelStyle timeLabelStyle = new Label.LabelStyle(font, skin.get("white", Color.class));
-        Label.LabelStyle coinsLabelStyle = new Label.LabelStyle(font, skin.get("yellow", Color.class));
-        Label.LabelStyle levelNameStyle = new Label.LabelStyle(largeFont, skin.get("white", Color.class));
+        Label.LabelStyle timeLabelStyle = new Label.LabelStyle(font, Color.WHITE);
+        Label.LabelStyle coinsLabelStyle = new Label.LabelStyle(font, Color.YELLOW);
+        Label.LabelStyle levelNameStyle = new Label.LabelStyle(largeFont, Color.WHITE);
 
         // Labels pour le HUD
         timeLabel = new Label("Time: 00:00", timeLabelStyle);
         coinsLabel = new Label("0", coinsLabelStyle);
-        levelNameLabel = new Label(levelLoader.getLevel().getName(), levelNameStyle); // Récupérer le nom du niveau
+        levelNameLabel = new Label(levelName, levelNameStyle);
 
-        coinImage = new Image(new Texture("Entities/coin.png"));
+        coinImage = new Image(coinTexture);
         coinImage.setScale(0.05f);
 
         // Positionnement
@@ -110,14 +125,26 @@ public class GameHUD {
     public void update(float deltaTime) {
         elapsedTime += deltaTime;
 
-        // Mettre à jour le compteur de temps
-        int minutes = (int) (elapsedTime / 60);
-        int seconds = (int) (elapsedTime % 60);
-        timeLabel.setText(String.format("Time: %02d:%02d", minutes, seconds));
+        // Mettre à jour le compteur de temps, uniquement lorsque la seconde affichée change
+        int totalSeconds = (int) elapsedTime;
+        if (totalSeconds != displayedSeconds) {
+            displayedSeconds = totalSeconds;
+            timeText.setLength(0);
+            timeText.append("Time: ");
+            appendTwoDigits(timeText, totalSeconds / 60);
+            timeText.append(':');
+            appendTwoDigits(timeText, totalSeconds % 60);
+            timeLabel.setText(timeText);
+        }
 
-        // Mettre à jour le nombre de pièces collectées
+        // Mettre à jour le nombre de pièces collectées, uniquement lorsqu'il change
         coinsCollected = player.getScore();
-        coinsLabel.setText(String.valueOf(coinsCollected));
+        if (coinsCollected != displayedCoins) {
+            displayedCoins = coinsCollected;
+            coinsText.setLength(0);
+            coinsText.append(coinsCollected);
+            coinsLabel.setText(coinsText);
+        }
 
         // Gérer l'affichage du nom du niveau
         if (showLevelName) {
@@ -129,6 +156,19 @@ public class GameHUD {
         }
     }
 
+    /**
+     * Ajoute un nombre sur au moins deux chiffres (équivalent de {@code %02d}) sans créer de chaîne intermédiaire.
+     *
+     * @param builder Le texte à compléter.
+     * @param value La valeur positive à ajouter.
+     */
+    private static void appendTwoDigits(StringBuilder builder, int value) {
+        if (value < 10) {
+            builder.append('0');
+        }
+        builder.append(value);
+    }
+
     /**
      * Rendu du HUD à l'écran.
      * Cette méthode est appelée à chaque frame pour dessiner tous les éléments
@@ -152,12 +192,11 @@ public class GameHUD {
     }
 
     /**
-     * Libère les ressources utilisées par le HUD, notamment les polices et le stage.
+     * Libère les ressources propres au HUD.
+     * Le stage, les polices et l'icône sont partagés par tous les niveaux et libérés par le {@link RenderContext} :
+     * le stage a déjà pu être réutilisé par le niveau suivant, il n'est donc pas vidé ici.
      */
     public void dispose() {
-        stage.dispose();
-        font.dispose();
-        largeFont.dispose(); // Dispose de la police agrandie
-        skin.dispose();
+        // Aucune ressource propre au HUD
     }
 }
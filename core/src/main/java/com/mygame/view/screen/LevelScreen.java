@@ -7,8 +7,11 @@ import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.mygame.controller.GameManager;
 import com.mygame.model.LevelLoader;
+import com.mygame.model.LevelSimulation;
 import com.mygame.model.entities.GameEntity;
 import com.mygame.model.maps.Level;
+import com.mygame.model.maps.LevelBlueprint;
+import com.mygame.utils.FixedStepClock;
 import com.mygame.view.screen.HUD.GameHUD;
 
 /**
@@ -19,19 +22,21 @@ import com.mygame.view.screen.HUD.GameHUD;
 public class LevelScreen implements Screen {
 
     private Level level;                // Le niveau actuel
+    private final GameManager gameManager; // Gestionnaire de jeu, qui précharge le niveau suivant
     private String mapPath;             // Chemin de la carte du niveau
     private GameHUD gameHUD;            // L'interface utilisateur pour afficher des informations sur le jeu
     private LevelLoader levelLoader;    // Le LevelLoader qui va gérer le chargement du niveau
     private GameEntity player;          // Le joueur pour déplacer la caméra
     private SpriteBatch spriteBatch;    // Utilisé pour rendre les entités et la carte
 
-    // Variables pour la gestion de la carte
-    private float mapWidth;             // Largeur de la carte
-    private float mapHeight;            // Hauteur de la carte
-
     private final float BASE_VIEWPORT_WIDTH = 16f;  // Largeur fixe du viewport pour maintenir un FOV constant
     private final float BASE_VIEWPORT_HEIGHT = 16f; // Hauteur fixe du viewport pour maintenir un FOV constant
 
+    // Simulation à pas fixe, indépendante de la fréquence d'affichage
+    public static final int PHYSICS_TICK_RATE = LevelSimulation.TICK_RATE; // Nombre de pas de simulation par seconde
+    public static final int MAX_STEPS_PER_FRAME = 5;     // Nombre maximal de pas de rattrapage par frame
+    private final FixedStepClock clock = new FixedStepClock(PHYSICS_TICK_RATE, MAX_STEPS_PER_FRAME);
+
     /**
      * Constructeur pour initialiser l'écran du niveau.
      *
@@ -39,10 +44,22 @@ public class LevelScreen implements Screen {
      * @param level Le niveau à afficher.
      */
     public LevelScreen(GameManager gameManager, Level level) {
+        this(gameManager, level, null);
+    }
+
+    /**
+     * Constructeur de l'écran du niveau à partir d'un niveau préparé par le {@link LoadingScreen}.
+     *
+     * @param gameManager Le gestionnaire de jeu contenant l'état du jeu et les niveaux.
+     * @param level Le niveau à afficher.
+     * @param blueprint Le niveau préparé (carte chargée et obstacles fusionnés), ou null pour charger la carte ici.
+     */
+    public LevelScreen(GameManager gameManager, Level level, LevelBlueprint blueprint) {
+        this.gameManager = gameManager;
         this.level = gameManager.getCurrentLevel();
         this.mapPath = gameManager.getCurrentLevel().getPath();
-        this.levelLoader = new LevelLoader(gameManager, level); // Initialiser le LevelLoader
-        this.gameHUD = new GameHUD(levelLoader);
+        this.levelLoader = new LevelLoader(gameManager, level, blueprint); // Initialiser le LevelLoader
+        this.gameHUD = new GameHUD(levelLoader, gameManager.getRenderContext());
     }
 
     /**
@@ -54,42 +71,11 @@ public class LevelScreen implements Screen {
         // Charger les entités et la carte via le LevelLoader
         player = levelLoader.getEntityFactory().getPlayer(); // Récupérer le joueur du niveau
 
-        // Initialiser le SpriteBatch pour dessiner les entités et la carte
-        spriteBatch = new SpriteBatch();
+        // Récupérer le SpriteBatch partagé pour dessiner les entités et la carte
+        spriteBatch = gameManager.getRenderContext().getBatch();
 
-        // Charger les dimensions de la carte
-        mapWidth = levelLoader.getMap().getMapWidth();  // Supposons que le LevelLoader a cette méthode
-        mapHeight = levelLoader.getMap().getMapHeight(); // Idem pour la hauteur
-    }
-
-    /**
-     * Cette méthode met à jour la caméra pour qu'elle suive le joueur à l'écran.
-     * Elle ajuste la position de la caméra pour centrer sur le joueur, tout en s'assurant
-     * que la caméra ne sort pas des limites de la carte.
-     */
-    private void updateCamera() {
-        // Récupérer la position du joueur
-        float playerX = player.getX();
-        float playerY = player.getY();
-
-        // Récupérer la caméra
-        OrthographicCamera camera = levelLoader.getCamera();
-
-        // Calculer la position de la caméra pour centrer sur le joueur
-        float cameraX = playerX - camera.viewportWidth / 2;
-        float cameraY = playerY - camera.viewportHeight / 2;
-
-        // Limiter la position de la caméra aux bords de la carte
-        if (cameraX < 0) {
-            cameraX = 0;
-        }
-        if (cameraX > mapWidth - camera.viewportWidth) {
-            cameraX = mapWidth - camera.viewportWidth;
-        }
-
-        // Mettre à jour la position de la caméra
-        camera.position.set(cameraX + camera.viewportWidth / 2, cameraY + camera.viewportHeight / 2, 0);
-        camera.update(); // Appliquer la mise à jour de la caméra
+        // Précharger le niveau suivant pendant la partie
+        gameManager.prefetch(level.getNext());
     }
 
     /**
@@ -145,33 +131,40 @@ public class LevelScreen implements Screen {
         Gdx.gl.glClearColor(0.1f, 0.1f, 0.1f, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
-        // Rendre la carte et les entités
-        levelLoader.render();
-        gameHUD.render(spriteBatch); // Afficher l'interface utilisateur
-        gameHUD.update(delta);       // Mettre à jour l'interface utilisateur
+        // Faire avancer le préchargement du niveau suivant
+        gameManager.updatePrefetch();
+        gameManager.addPlayTime(delta);
+
+        // Avancer la simulation par pas fixes, quel que soit le temps de la frame
+        int steps = clock.advance(delta);
+        for (int i = 0; i < steps && !levelLoader.hasOutcome(); i++) {
+            levelLoader.step(clock.getStep());
+        }
 
-        // Appliquer la mise à jour de la physique du monde
-        levelLoader.getMap().getWorld().step(delta, 2, 2);
-        levelLoader.getCompositeContactListener().getCollectibleListener().processPendingDestructions(levelLoader.getMap().getWorld());
+        // Appliquer la mort ou la sortie une fois les pas terminés, jamais au milieu d'un pas
+        if (levelLoader.applyOutcome()) {
+            return;
+        }
+        float alpha = clock.getAlpha();
 
         // Mise à jour de la caméra pour suivre le joueur
         if (player != null) {
-            levelLoader.updateCamera(player);  // Met à jour la caméra pour suivre le joueur
+            levelLoader.updateCamera(player, alpha);  // Met à jour la caméra pour suivre le joueur
         }
 
-        // Appliquer la caméra au renderer de la carte et rendre le niveau
+        // Rendre la carte et les entités à la position interpolée
+        levelLoader.render(alpha);
+        gameHUD.render(spriteBatch); // Afficher l'interface utilisateur
+        gameHUD.update(delta);       // Mettre à jour l'interface utilisateur
     }
 
     /**
-     * Libère les ressources utilisées par cet écran.
-     * Cela inclut le SpriteBatch, le LevelLoader, et toute autre ressource allouée.
+     * Libère les ressources propres à cet écran, une fois qu'il a été remplacé (voir {@link com.mygame.Main#setScreen}).
+     * Le SpriteBatch et les ressources du HUD sont partagés entre les niveaux et ne sont pas libérés ici.
      */
     @Override
     public void dispose() {
         gameHUD.dispose();
-        if (spriteBatch != null) {
-            spriteBatch.dispose(); // Libérer le SpriteBatch
-        }
         if (levelLoader != null) {
             levelLoader.dispose(); // Libérer les ressources du LevelLoader
         }
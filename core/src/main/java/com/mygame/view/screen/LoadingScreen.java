@@ -0,0 +1,199 @@
+package com.mygame.view.screen;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.mygame.controller.GameManager;
+import com.mygame.model.maps.Level;
+import com.mygame.model.maps.LevelBlueprint;
+import com.mygame.view.RenderContext;
+
+/**
+ * L'écran de chargement affiché entre deux niveaux.
+ * <p>
+ * Le chargement se fait en trois phases, sans bloquer l'affichage :
+ * </p>
+ * <ol>
+ *     <li>la carte Tiled est chargée par l'{@link AssetManager} : lecture du fichier .tmx et décodage des images
+ *     des tilesets sur un thread de chargement, puis envoi des textures à la carte graphique sur le thread de rendu ;</li>
+ *     <li>les tuiles d'obstacles sont fusionnées sur un thread de chargement ({@link LevelBlueprint}) ;</li>
+ *     <li>le {@link LevelScreen} est créé sur le thread de rendu : corps Box2D et entités.</li>
+ * </ol>
+ * <p>
+ * La progression est affichée sous forme de barre pendant tout le chargement, avec le SpriteBatch, la police
+ * et le rendu de formes partagés du {@link RenderContext} : l'écran ne crée aucune ressource graphique.
+ * </p>
+ */
+public class LoadingScreen implements Screen {
+
+    private static final int UPDATE_BUDGET_MILLIS = 16; // Temps maximal accordé à l'AssetManager par frame
+    private static final float MAP_PROGRESS = 0.8f;     // Part de la barre réservée au chargement de la carte
+
+    private final GameManager gameManager;             // Gestionnaire de jeu, propriétaire de l'AssetManager
+    private final Level level;                         // Niveau en cours de chargement
+    private final AssetManager assetManager;           // Gestionnaire de ressources qui charge la carte
+    private AsyncResult<LevelBlueprint> blueprintTask; // Préparation du niveau en cours (fusion des obstacles)
+    private float progress;                            // Progression affichée (entre 0 et 1)
+
+    private SpriteBatch batch;                         // SpriteBatch partagé, utilisé pour le texte
+    private BitmapFont font;                           // Police partagée, utilisée pour le texte
+    private ShapeRenderer shapeRenderer;               // Rendu partagé de la barre de progression
+    private final Matrix4 projection = new Matrix4();  // Projection en pixels de l'écran
+
+    /**
+     * Constructeur de l'écran de chargement.
+     *
+     * @param gameManager Le gestionnaire de jeu.
+     * @param level Le niveau à charger.
+     */
+    public LoadingScreen(GameManager gameManager, Level level) {
+        this(gameManager, level, null);
+    }
+
+    /**
+     * Constructeur de l'écran de chargement reprenant un préchargement en cours.
+     *
+     * @param gameManager Le gestionnaire de jeu.
+     * @param level Le niveau à charger.
+     * @param prefetched La préparation du niveau lancée pendant la partie précédente, ou null.
+     */
+    public LoadingScreen(GameManager gameManager, Level level, AsyncResult<LevelBlueprint> prefetched) {
+        this.gameManager = gameManager;
+        this.level = level;
+        this.assetManager = gameManager.getAssetManager();
+        this.blueprintTask = prefetched;
+        if (prefetched != null) {
+            progress = MAP_PROGRESS;
+        }
+    }
+
+    /**
+     * Lance le chargement de la carte du niveau, si elle n'est pas déjà chargée ou en cours de préchargement.
+     */
+    @Override
+    public void show() {
+        RenderContext renderContext = gameManager.getRenderContext();
+        batch = renderContext.getBatch();
+        font = renderContext.getFont();
+        shapeRenderer = renderContext.getShapeRenderer();
+        projection.setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+
+        if (!assetManager.contains(level.getPath())) {
+            assetManager.load(level.getPath(), TiledMap.class);
+        }
+    }
+
+    /**
+     * Fait avancer le chargement puis affiche la progression.
+     *
+     * @param delta Temps écoulé depuis la dernière frame.
+     */
+    @Override
+    public void render(float delta) {
+        if (updateLoading()) {
+            return;
+        }
+
+        Gdx.gl.glClearColor(0, 0, 0, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+        float width = Gdx.graphics.getWidth();
+        float height = Gdx.graphics.getHeight();
+        float barWidth = width * 0.6f;
+        float barX = (width - barWidth) / 2;
+        float barY = height / 2 - 10;
+
+        // Les ressources partagées gardent la projection du niveau précédent
+        shapeRenderer.setProjectionMatrix(projection);
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+        shapeRenderer.setColor(Color.DARK_GRAY);
+        shapeRenderer.rect(barX, barY, barWidth, 20);
+        shapeRenderer.setColor(Color.WHITE);
+        shapeRenderer.rect(barX, barY, barWidth * progress, 20);
+        shapeRenderer.end();
+
+        batch.setProjectionMatrix(projection);
+        batch.begin();
+        font.draw(batch, "Chargement : " + (level.getName() != null ? level.getName() : level.getPath()), barX, barY + 50);
+        batch.end();
+    }
+
+    /**
+     * Fait avancer la phase de chargement en cours.
+     *
+     * @return {@code true} si l'écran a été changé (chargement terminé ou en échec).
+     */
+    private boolean updateLoading() {
+        try {
+            // Phase 1 : chargement de la carte et de ses textures
+            if (blueprintTask == null) {
+                if (!assetManager.update(UPDATE_BUDGET_MILLIS)) {
+                    progress = assetManager.getProgress() * MAP_PROGRESS;
+                    return false;
+                }
+                TiledMap map = assetManager.get(level.getPath(), TiledMap.class);
+                String mapPath = level.getPath();
+                blueprintTask = gameManager.getLoadingExecutor().submit(() -> new LevelBlueprint(mapPath, map));
+                progress = MAP_PROGRESS;
+                return false;
+            }
+
+            // Phase 2 : fusion des obstacles sur le thread de chargement
+            if (!blueprintTask.isDone()) {
+                return false;
+            }
+
+            // Phase 3 : création des corps et des entités sur le thread de rendu
+            progress = 1f;
+            gameManager.getGame().setScreen(new LevelScreen(gameManager, level, blueprintTask.get()));
+        } catch (GdxRuntimeException e) {
+            System.err.println("Erreur lors du chargement du niveau " + level.getPath() + " : " + e.getMessage());
+            gameManager.getGame().setScreen(new BadMapScreen(gameManager));
+        }
+        return true;
+    }
+
+    /**
+     * Met à jour les projections lorsque la taille de la fenêtre change.
+     *
+     * @param width La nouvelle largeur de l'écran.
+     * @param height La nouvelle hauteur de l'écran.
+     */
+    @Override
+    public void resize(int width, int height) {
+        projection.setToOrtho2D(0, 0, width, height);
+    }
+
+    /**
+     * Cette méthode est appelée lorsque l'écran est mis en pause (non utilisé ici).
+     */
+    @Override
+    public void pause() {}
+
+    /**
+     * Cette méthode est appelée lorsque l'écran est repris après avoir été mis en pause (non utilisé ici).
+     */
+    @Override
+    public void resume() {}
+
+    /**
+     * Cette méthode est appelée lorsque l'écran est caché (non utilisé ici).
+     */
+    @Override
+    public void hide() {}
+
+    /**
+     * Les ressources graphiques sont partagées et libérées par le {@link RenderContext} : rien à libérer ici.
+     */
+    @Override
+    public void dispose() {}
+}
@@ -16,6 +16,7 @@ import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.mygame.Main;
 import com.mygame.controller.GameManager;
+import com.mygame.utils.ResourceTracker;
 
 /**
  * L'écran de la perte de jeu (Game Over).
@@ -39,9 +40,9 @@ public class LoseScreen implements Screen {
     public LoseScreen(Main game, GameManager gameManager) {
         this.game = game;
         this.gameManager = gameManager;
-        this.stage = new Stage();  // Crée un nouveau stage pour afficher les éléments UI
-        this.batch = new SpriteBatch(); // Initialise un SpriteBatch pour les rendus
-        this.font = new BitmapFont(); // Crée une nouvelle police par défaut
+        this.stage = ResourceTracker.track(new Stage(), this);  // Crée un nouveau stage pour afficher les éléments UI
+        this.batch = ResourceTracker.track(new SpriteBatch(), this); // Initialise un SpriteBatch pour les rendus
+        this.font = ResourceTracker.track(new BitmapFont(), this); // Crée une nouvelle police par défaut
     }
 
     /**
@@ -108,7 +109,7 @@ public class LoseScreen implements Screen {
         // Gérer les entrées utilisateur
         if (Gdx.input.isKeyJustPressed(Input.Keys.ENTER)) {
             // Si "Entrée" est pressé, redémarrer le niveau ou revenir à l'écran du menu
-            game.setScreen(new LevelScreen(gameManager, gameManager.getCurrentLevel())); // Redémarrer le niveau
+            gameManager.startLevel(gameManager.getCurrentLevel()); // Redémarrer le niveau
         }
         if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
             Gdx.app.exit(); // Quitter l'application si "Échap" est pressé
@@ -151,8 +152,8 @@ public class LoseScreen implements Screen {
      */
     @Override
     public void dispose() {
-        batch.dispose();  // Libérer le SpriteBatch
-        font.dispose();   // Libérer la police
-        stage.dispose();  // Libérer le stage
+        ResourceTracker.dispose(batch);  // Libérer le SpriteBatch
+        ResourceTracker.dispose(font);   // Libérer la police
+        ResourceTracker.dispose(stage);  // Libérer le stage
     }
 }
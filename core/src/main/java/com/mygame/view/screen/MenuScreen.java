@@ -15,12 +15,23 @@ import com.mygame.controller.GameManager;
 import com.mygame.model.maps.Level;
 import com.mygame.utils.saver.LoadManager;
 import com.mygame.utils.saver.SaveData;
+import com.mygame.utils.saver.SaveStore;
+import com.mygame.utils.saver.SlotInfo;
+import com.mygame.utils.ResourceTracker;
+
+import java.text.SimpleDateFormat;
+import java.util.Collections;
+import java.util.Date;
 
 /**
  * Écran représentant le menu principal du jeu.
  * Permet à l'utilisateur de commencer une nouvelle partie,
  * reprendre une partie sauvegardée, reprendre la partie actuelle,
  * ou accéder aux paramètres.
+ * <p>
+ * Les emplacements de sauvegarde sont affichés à partir du seul index du {@link SaveStore} :
+ * une sauvegarde n'est lue que lorsque le joueur la reprend.
+ * </p>
  */
 public class MenuScreen implements Screen {
 
@@ -39,9 +50,9 @@ public class MenuScreen implements Screen {
     public MenuScreen(GameManager gameManager) {
         this.gameManager = gameManager;
         this.game = gameManager.getGame();
-        this.stage = new Stage();
-        this.font = new BitmapFont();
-        this.batch = new SpriteBatch();
+        this.stage = ResourceTracker.track(new Stage(), this);
+        this.font = ResourceTracker.track(new BitmapFont(), this);
+        this.batch = ResourceTracker.track(new SpriteBatch(), this);
 
         Gdx.input.setInputProcessor(stage);
 
@@ -49,6 +60,10 @@ public class MenuScreen implements Screen {
         createResumeGameButton("Reprendre Sauvegarde", 100, 300);
         createCurrentGameButton("Reprendre Partie en Cours", 100, 200);
         createSettingsButton("Paramètres", 100, 100);
+
+        for (SlotInfo slot : SaveStore.getInstance().listSlots()) {
+            createSlotButton(slot, 400, 400 - slot.getSlot() * 50);
+        }
     }
 
     /**
@@ -69,11 +84,8 @@ public class MenuScreen implements Screen {
         button.addListener(new ChangeListener() {
             @Override
             public void changed(ChangeEvent event, Actor actor) {
-                // Réinitialiser le jeu au premier niveau avec 0 pièces
-                Level firstLevel = gameManager.getLevels().get(0); // Premier niveau
-                gameManager.setCurrentLevel(firstLevel);
-                gameManager.setCoin(0); // Réinitialiser les pièces
-                game.setScreen(new LevelScreen(gameManager, firstLevel));
+                // Premier emplacement libre, ou à défaut le plus ancien
+                startNewGame(SaveStore.getInstance().getSlotForNewGame());
             }
         });
 
@@ -81,7 +93,22 @@ public class MenuScreen implements Screen {
     }
 
     /**
-     * Crée et ajoute un bouton permettant de reprendre la dernière sauvegarde du jeu.
+     * Démarre une nouvelle partie au premier niveau avec 0 pièces, sauvegardée dans un emplacement donné.
+     *
+     * @param slot Le numéro de l'emplacement de sauvegarde.
+     */
+    private void startNewGame(int slot) {
+        Level firstLevel = gameManager.getLevels().get(0); // Premier niveau
+        gameManager.setSaveSlot(slot);
+        gameManager.setCurrentLevel(firstLevel);
+        gameManager.setCoin(0); // Réinitialiser les pièces
+        gameManager.setPlayTimeMillis(0);
+        gameManager.restoreLevelStats(Collections.emptyList()); // Aucun meilleur résultat
+        gameManager.startLevel(firstLevel);
+    }
+
+    /**
+     * Crée et ajoute un bouton permettant de reprendre la sauvegarde la plus récente du jeu.
      *
      * @param text Le texte du bouton.
      * @param x La position X du bouton sur l'écran.
@@ -98,30 +125,9 @@ public class MenuScreen implements Screen {
         button.addListener(new ChangeListener() {
             @Override
             public void changed(ChangeEvent event, Actor actor) {
-                // Charger les données de sauvegarde
-                SaveData savedData = LoadManager.loadGame();
-                if (savedData != null) {
-                    Level savedLevel = savedData.getLastLevel();
-                    if (savedLevel != null) {
-                        // Vérifier si le niveau sauvegardé existe dans gameManager.getLevels()
-                        boolean levelExists = false;
-                        for (Level level : gameManager.getLevels()) {
-                            if (level.getPath().equals(savedLevel.getPath())) {
-                                levelExists = true;
-                                break;
-                            }
-                        }
-
-                        if (levelExists) {
-                            gameManager.setCurrentLevel(savedLevel);
-                            gameManager.setCoin(savedData.getCoins());
-                            game.setScreen(new LevelScreen(gameManager, savedLevel));
-                        } else {
-                            System.out.println("Le niveau sauvegardé n'existe pas dans les niveaux disponibles.");
-                        }
-                    } else {
-                        System.out.println("Niveau sauvegardé introuvable.");
-                    }
+                int slot = SaveStore.getInstance().getMostRecentSlot();
+                if (slot != -1) {
+                    resumeSlot(slot);
                 } else {
                     System.out.println("Aucune sauvegarde trouvée.");
                 }
@@ -131,6 +137,92 @@ public class MenuScreen implements Screen {
         stage.addActor(button);
     }
 
+    /**
+     * Crée et ajoute un bouton pour un emplacement de sauvegarde, décrit par l'index des sauvegardes.
+     * Un emplacement occupé est repris, un emplacement vide accueille une nouvelle partie.
+     *
+     * @param info La description de l'emplacement.
+     * @param x La position X du bouton sur l'écran.
+     * @param y La position Y du bouton sur l'écran.
+     */
+    private void createSlotButton(SlotInfo info, float x, float y) {
+        TextButton.TextButtonStyle style = new TextButton.TextButtonStyle();
+        style.font = font;
+        style.downFontColor = Color.GRAY;
+
+        TextButton button = new TextButton(describeSlot(info), style);
+
+        button.setPosition(x, y);
+        button.addListener(new ChangeListener() {
+            @Override
+            public void changed(ChangeEvent event, Actor actor) {
+                if (info.isEmpty()) {
+                    startNewGame(info.getSlot());
+                } else {
+                    resumeSlot(info.getSlot());
+                }
+            }
+        });
+
+        stage.addActor(button);
+    }
+
+    /**
+     * Construit le texte d'un emplacement : niveau, pièces, temps de jeu et date de la sauvegarde.
+     *
+     * @param info La description de l'emplacement.
+     * @return Le texte du bouton.
+     */
+    private static String describeSlot(SlotInfo info) {
+        String text = "Emplacement " + (info.getSlot() + 1) + " : ";
+        if (info.isEmpty()) {
+            return text + "vide";
+        }
+        long seconds = info.getPlayTimeMillis() / 1000;
+        String playTime = String.format("%d:%02d:%02d", seconds / 3600, seconds / 60 % 60, seconds % 60);
+        String savedAt = new SimpleDateFormat("dd/MM/yyyy HH:mm").format(new Date(info.getSavedAtMillis()));
+        return text + (info.getLevelName() != null ? info.getLevelName() : "-") + " - " + info.getCoins() + " pièces - "
+            + playTime + " - " + savedAt;
+    }
+
+    /**
+     * Charge la sauvegarde d'un emplacement et reprend la partie au niveau sauvegardé.
+     *
+     * @param slot Le numéro de l'emplacement de sauvegarde.
+     */
+    private void resumeSlot(int slot) {
+        // Charger les données de sauvegarde
+        SaveData savedData = LoadManager.loadGame(slot);
+        if (savedData != null) {
+            Level savedLevel = savedData.getLastLevel();
+            if (savedLevel != null) {
+                // Retrouver le niveau sauvegardé dans gameManager.getLevels() (la sauvegarde ne contient que son chemin)
+                Level existingLevel = null;
+                for (Level level : gameManager.getLevels()) {
+                    if (level.getPath().equals(savedLevel.getPath())) {
+                        existingLevel = level;
+                        break;
+                    }
+                }
+
+                if (existingLevel != null) {
+                    gameManager.setSaveSlot(slot);
+                    gameManager.setCurrentLevel(existingLevel);
+                    gameManager.setCoin(savedData.getCoins());
+                    gameManager.setPlayTimeMillis(savedData.getPlayTimeMillis());
+                    gameManager.restoreLevelStats(savedData.getLevelStats());
+                    gameManager.startLevel(existingLevel);
+                } else {
+                    System.out.println("Le niveau sauvegardé n'existe pas dans les niveaux disponibles.");
+                }
+            } else {
+                System.out.println("Niveau sauvegardé introuvable.");
+            }
+        } else {
+            System.out.println("Aucune sauvegarde trouvée.");
+        }
+    }
+
 
     /**
      * Crée et ajoute un bouton permettant de reprendre la partie actuelle.
@@ -153,7 +245,7 @@ public class MenuScreen implements Screen {
                 // Reprendre la partie actuelle
                 Level currentLevel = gameManager.getCurrentLevel();
                 if (currentLevel != null) {
-                    game.setScreen(new LevelScreen(gameManager, currentLevel));
+                    gameManager.startLevel(currentLevel);
                 } else {
                     System.out.println("Aucune partie en cours trouvée.");
                 }
@@ -201,6 +293,7 @@ public class MenuScreen implements Screen {
 
         batch.begin();
         font.draw(batch, "Menu Principal", 100, 500);
+        font.draw(batch, "Sauvegardes", 400, 450);
         batch.end();
 
         stage.act(Gdx.graphics.getDeltaTime());
@@ -223,9 +316,9 @@ public class MenuScreen implements Screen {
      */
     @Override
     public void dispose() {
-        batch.dispose();
-        font.dispose();
-        stage.dispose();
+        ResourceTracker.dispose(batch);
+        ResourceTracker.dispose(font);
+        ResourceTracker.dispose(stage);
     }
 
     /**
@@ -20,6 +20,7 @@ import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
+import com.mygame.utils.ResourceTracker;
 
 /**
  * L'écran des paramètres où les utilisateurs peuvent remapper les contrôles du jeu.
@@ -29,6 +30,7 @@ public class SettingsScreen implements Screen {
     private final Stage stage;
     private final SpriteBatch batch;
     private final BitmapFont font;
+    private final Array<Texture> backgroundTextures = new Array<>(); // Textures des arrière-plans créés par l'écran
     private final KeyBindings keyBindings;
     private String message = "Cliquez sur Remap pour remapper";
     private boolean isRemapping = false;
@@ -45,9 +47,9 @@ public class SettingsScreen implements Screen {
         this.gameManager = gameManager;
         this.game = gameManager.getGame();
         this.keyBindings = gameManager.getKeyBindings();
-        this.stage = new Stage();
-        this.batch = new SpriteBatch();
-        this.font = new BitmapFont();
+        this.stage = ResourceTracker.track(new Stage(), this);
+        this.batch = ResourceTracker.track(new SpriteBatch(), this);
+        this.font = ResourceTracker.track(new BitmapFont(), this);
         Gdx.input.setInputProcessor(stage);
 
         createButton("Remap Move Right", 100, 300, "MoveRight");
@@ -221,7 +223,8 @@ public class SettingsScreen implements Screen {
         Pixmap pixmap = new Pixmap(width, height, Pixmap.Format.RGBA8888);
         pixmap.setColor(r / 255f, g / 255f, b / 255f, a / 255f);
         pixmap.fillRectangle(0, 0, width, height);
-        Texture texture = new Texture(pixmap);
+        Texture texture = ResourceTracker.track(new Texture(pixmap), this);
+        backgroundTextures.add(texture);
         pixmap.dispose();
         return new TextureRegionDrawable(texture);
     }
@@ -239,14 +242,22 @@ public class SettingsScreen implements Screen {
     public void resume() {
     }
 
+    /**
+     * Enregistre les touches modifiées, en une seule écriture, à la fermeture de l'écran.
+     */
     @Override
     public void hide() {
+        keyBindings.flush();
     }
 
     @Override
     public void dispose() {
-        batch.dispose();
-        font.dispose();
-        stage.dispose();
+        ResourceTracker.dispose(batch);
+        ResourceTracker.dispose(font);
+        ResourceTracker.dispose(stage);
+        for (Texture texture : backgroundTextures) {
+            ResourceTracker.dispose(texture);
+        }
+        backgroundTextures.clear();
     }
 }
@@ -0,0 +1,37 @@
+package com.mygame.headless;
+
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+
+/**
+ * Lance la simulation d'un niveau sans affichage (backend headless de LibGDX).
+ * Aucune fenêtre, aucun contexte OpenGL, aucun son ni texture ne sont nécessaires :
+ * ce lanceur peut donc être utilisé sur un serveur ou une machine de build sans GPU.
+ */
+public class HeadlessLauncher {
+
+    private static final String DEFAULT_MAP = "maps/level1.tmx"; // Carte simulée par défaut
+    private static final int DEFAULT_TICKS = 3600;               // Une minute de jeu à 60 pas par seconde
+
+    /**
+     * Point d'entrée de la simulation sans affichage.
+     *
+     * @param args Arguments optionnels : le chemin de la carte, puis le nombre de pas de simulation.
+     */
+    public static void main(String[] args) {
+        String mapPath = args.length > 0 ? args[0] : DEFAULT_MAP;
+        int ticks = DEFAULT_TICKS;
+        if (args.length > 1) {
+            try {
+                ticks = Integer.parseInt(args[1]);
+            } catch (NumberFormatException e) {
+                System.err.println("Nombre de pas invalide : " + args[1]);
+                return;
+            }
+        }
+
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        configuration.updatesPerSecond = -1; // La simulation est entièrement exécutée dans create()
+        new HeadlessApplication(new HeadlessSimulation(mapPath, ticks), configuration);
+    }
+}
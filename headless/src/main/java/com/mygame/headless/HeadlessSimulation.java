@@ -0,0 +1,72 @@
+package com.mygame.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.mygame.common.EntityFactory;
+import com.mygame.common.SoundFactory;
+import com.mygame.model.LevelSimulation;
+import com.mygame.model.entities.Player;
+import com.mygame.model.maps.Level;
+import com.mygame.model.maps.MapLoader;
+
+/**
+ * Application sans affichage qui charge un niveau et fait avancer sa simulation physique
+ * pendant un nombre de pas donné, aussi vite que possible, puis affiche un résumé.
+ */
+public class HeadlessSimulation extends ApplicationAdapter {
+
+    private final String mapPath; // Chemin de la carte à simuler
+    private final int ticks;      // Nombre de pas de simulation à effectuer
+
+    /**
+     * Constructeur de la simulation sans affichage.
+     *
+     * @param mapPath Le chemin de la carte à simuler.
+     * @param ticks Le nombre de pas de simulation à effectuer.
+     */
+    public HeadlessSimulation(String mapPath, int ticks) {
+        this.mapPath = mapPath;
+        this.ticks = ticks;
+    }
+
+    /**
+     * Charge le niveau, exécute la simulation et quitte l'application.
+     */
+    @Override
+    public void create() {
+        // Le backend headless fournit des sons factices : les collectes restent silencieuses
+        SoundFactory soundFactory = SoundFactory.getInstance();
+        soundFactory.loadSound("piece");
+
+        MapLoader mapLoader = MapLoader.headless();
+        EntityFactory entityFactory = EntityFactory.createHeadless();
+
+        long loadStart = System.nanoTime();
+        LevelSimulation simulation = new LevelSimulation(new Level(mapPath, mapPath), mapLoader.loadMap(mapPath), entityFactory, soundFactory);
+        long loadTime = System.nanoTime() - loadStart;
+
+        long stepStart = System.nanoTime();
+        for (int i = 0; i < ticks; i++) {
+            simulation.step(LevelSimulation.TIME_STEP);
+        }
+        long stepTime = System.nanoTime() - stepStart;
+
+        double seconds = stepTime / 1_000_000_000.0;
+        System.out.println("Carte : " + mapPath);
+        System.out.println("Chargement : " + loadTime / 1_000_000 + " ms");
+        System.out.println("Corps : " + simulation.getMap().getWorld().getBodyCount()
+            + ", fixtures : " + simulation.getMap().getWorld().getFixtureCount()
+            + ", entités : " + entityFactory.getEntities().size);
+        System.out.println("Pas simulés : " + simulation.getTickCount() + " en " + stepTime / 1_000_000 + " ms ("
+            + (seconds > 0 ? (long) (simulation.getTickCount() / seconds) : 0) + " pas/s)");
+
+        Player player = simulation.getPlayer();
+        if (player != null) {
+            System.out.println("Position finale du joueur : " + player.getX() + ", " + player.getY());
+        }
+
+        simulation.dispose();
+        soundFactory.dispose();
+        Gdx.app.exit();
+    }
+}
@@ -0,0 +1,131 @@
+package com.mygame.headless;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessFiles;
+import com.badlogic.gdx.backends.headless.mock.audio.MockAudio;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.Box2D;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.Shape;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import com.mygame.common.EntityFactory;
+import com.mygame.common.SoundFactory;
+import com.mygame.model.LevelSimulation;
+import com.mygame.model.maps.Level;
+import com.mygame.model.maps.MapLoader;
+
+/**
+ * Vérification de non-régression du monde physique, exécutée par la tâche Gradle {@code headless:checkLevels}
+ * (et donc par {@code ./gradlew check}) avec le backend headless, sans fenêtre ni contexte OpenGL.
+ * <p>
+ * Sur {@value #MAP}, elle vérifie :
+ * </p>
+ * <ul>
+ *     <li>que les bords de la carte forment un seul corps (une chaîne fermée) ;</li>
+ *     <li>que le monde contient au plus {@value #MAX_BODIES} corps : environ 46 aujourd'hui (2 corps d'obstacles
+ *     fusionnés, les bords, la zone de mort, la sortie et les entités), contre plus de 2000 avec un corps par tuile ;</li>
+ *     <li>que le pas de simulation moyen, après une période de chauffe, reste sous le budget
+ *     ({@value #DEFAULT_MAX_STEP_MICROS} µs par défaut, modifiable par la propriété système
+ *     {@code rungame.maxStepMicros} pour les machines lentes).</li>
+ * </ul>
+ * <p>
+ * Les bords de toutes les cartes livrées sont ensuite vérifiés par {@link MapBorderCheck}.
+ * </p>
+ * <p>
+ * En cas d'écart, le processus se termine avec le code 1 et la tâche Gradle échoue.
+ * </p>
+ */
+public class LevelRegressionCheck {
+
+    private static final String MAP = "maps/level2.tmx";     // Plus grande carte livrée (200 x 30 tuiles)
+    private static final int MAX_BODIES = 64;                 // Nombre maximal de corps du monde
+    private static final long DEFAULT_MAX_STEP_MICROS = 1000; // Durée maximale d'un pas de simulation, en moyenne
+    private static final int WARMUP_TICKS = 600;              // Pas de chauffe du JIT, non mesurés
+    private static final int MEASURED_TICKS = 600;            // Pas mesurés (10 secondes de jeu)
+
+    /**
+     * Point d'entrée de la vérification.
+     *
+     * @param args Non utilisés.
+     */
+    public static void main(String[] args) {
+        GdxNativesLoader.load();
+        Box2D.init();
+        Gdx.files = new HeadlessFiles();
+        Gdx.audio = new MockAudio();
+        SoundFactory.getInstance().loadSound("piece"); // Son joué lors des collectes
+
+        long maxStepMicros = Long.getLong("rungame.maxStepMicros", DEFAULT_MAX_STEP_MICROS);
+        int failures = 0;
+
+        MapLoader mapLoader = MapLoader.headless();
+        EntityFactory entityFactory = EntityFactory.createHeadless();
+        LevelSimulation simulation = new LevelSimulation(new Level(MAP, MAP), mapLoader.loadMap(MAP), entityFactory,
+            SoundFactory.getInstance());
+        World world = simulation.getMap().getWorld();
+
+        // Nombre de corps
+        int chainBodies = countChainBodies(world);
+        if (chainBodies != 1) {
+            System.err.println("ÉCHEC : " + chainBodies + " corps de bordure en chaîne au lieu de 1.");
+            failures++;
+        }
+        if (world.getBodyCount() > MAX_BODIES) {
+            System.err.println("ÉCHEC : " + world.getBodyCount() + " corps dans le monde, au-delà de " + MAX_BODIES + ".");
+            failures++;
+        }
+        System.out.println(MAP + " : " + world.getBodyCount() + " corps, " + world.getFixtureCount() + " fixtures");
+
+        // Durée d'un pas
+        for (int i = 0; i < WARMUP_TICKS; i++) {
+            simulation.step(LevelSimulation.TIME_STEP);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_TICKS; i++) {
+            simulation.step(LevelSimulation.TIME_STEP);
+        }
+        long stepMicros = (System.nanoTime() - start) / 1000 / MEASURED_TICKS;
+        System.out.println(MAP + " : " + stepMicros + " µs par pas (budget : " + maxStepMicros + " µs)");
+        if (stepMicros > maxStepMicros) {
+            System.err.println("ÉCHEC : pas de simulation trop long (" + stepMicros + " µs > " + maxStepMicros + " µs).");
+            failures++;
+        }
+
+        entityFactory.clearEntities();
+        simulation.dispose(); // Libère aussi la carte chargée
+
+        // Géométrie des bords de toutes les cartes livrées
+        try {
+            MapBorderCheck.run();
+        } catch (IllegalStateException e) {
+            System.err.println("ÉCHEC : " + e.getMessage());
+            failures++;
+        }
+        SoundFactory.getInstance().dispose();
+
+        if (failures > 0) {
+            System.exit(1);
+        }
+        System.out.println("Vérification du monde physique réussie.");
+    }
+
+    /**
+     * Compte les corps qui possèdent au moins une fixture en chaîne (les bords de la carte).
+     */
+    private static int countChainBodies(World world) {
+        Array<Body> bodies = new Array<>();
+        world.getBodies(bodies);
+        int count = 0;
+        for (Body body : bodies) {
+            for (Fixture fixture : body.getFixtureList()) {
+                if (fixture.getType() == Shape.Type.Chain) {
+                    count++;
+                    break;
+                }
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,143 @@
+package com.mygame.headless;
+
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.ChainShape;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.Shape;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+import com.mygame.common.EntityFactory;
+import com.mygame.common.SoundFactory;
+import com.mygame.model.LevelSimulation;
+import com.mygame.model.maps.Level;
+import com.mygame.model.maps.MapLoader;
+import com.mygame.utils.CollisionCategory;
+
+/**
+ * Vérifie, pour chaque carte livrée, que les bords créés sous la forme d'une seule chaîne fermée
+ * remplacent bien les quatre murs d'origine :
+ * <ul>
+ *     <li>une seule {@link ChainShape} bouclée, de 4 sommets distincts ;</li>
+ *     <li>des extrémités de (0, 0) à (largeur, hauteur - 1) en tuiles ;</li>
+ *     <li>une catégorie de terrain qui entre en contact avec le corps du joueur ;</li>
+ *     <li>un joueur poussé vers la gauche puis vers la droite qui ne sort jamais de la carte.</li>
+ * </ul>
+ * Exécutée par {@link LevelRegressionCheck}, après l'initialisation du backend headless.
+ */
+final class MapBorderCheck {
+
+    private static final String[] MAPS = {"maps/level1.tmx", "maps/level2.tmx", "maps/level3.tmx"};
+    private static final float PPM = 16f;         // Pixels par mètre, comme dans GameMap
+    private static final float EPSILON = 1e-4f;   // Tolérance sur les coordonnées des sommets
+    private static final int PUSH_STEPS = 300;    // Pas de simulation dans chaque direction (5 secondes)
+    private static final float PUSH_SPEED = 20f;  // Vitesse horizontale imposée au joueur (mètres par seconde)
+
+    private MapBorderCheck() {
+    }
+
+    /**
+     * Vérifie les bords de toutes les cartes livrées.
+     *
+     * @throws IllegalStateException Si les bords d'une carte ne correspondent pas aux murs d'origine.
+     */
+    static void run() {
+        for (String mapPath : MAPS) {
+            check(mapPath);
+        }
+    }
+
+    private static void check(String mapPath) {
+        EntityFactory entityFactory = EntityFactory.createHeadless();
+        LevelSimulation simulation = new LevelSimulation(new Level(mapPath, mapPath),
+            MapLoader.headless().loadMap(mapPath), entityFactory, SoundFactory.getInstance());
+        try {
+            TiledMapTileLayer layer = simulation.getMap().getObstacleLayer();
+            float width = layer.getWidth() * layer.getTileWidth() / PPM;
+            float top = (layer.getHeight() - 1) * layer.getTileHeight() / PPM;
+
+            checkLoop(mapPath, simulation.getMap().getWorld(), width, top);
+            checkPlayerStaysInside(mapPath, simulation, width);
+        } finally {
+            entityFactory.clearEntities();
+            simulation.dispose();
+        }
+    }
+
+    /**
+     * Vérifie qu'il n'existe qu'une chaîne bouclée, de 4 sommets, aux extrémités attendues.
+     */
+    private static void checkLoop(String mapPath, World world, float width, float top) {
+        Array<Body> bodies = new Array<>();
+        world.getBodies(bodies);
+        Fixture loop = null;
+        for (Body body : bodies) {
+            for (Fixture fixture : body.getFixtureList()) {
+                if (fixture.getType() == Shape.Type.Chain) {
+                    if (loop != null) {
+                        fail(mapPath, "plusieurs chaînes de bordure");
+                    }
+                    loop = fixture;
+                }
+            }
+        }
+        if (loop == null) {
+            fail(mapPath, "aucune chaîne de bordure");
+        }
+
+        ChainShape chain = (ChainShape) loop.getShape();
+        if (!chain.isLooped()) {
+            fail(mapPath, "la chaîne de bordure n'est pas fermée");
+        }
+        Vector2 first = new Vector2();
+        Vector2 vertex = new Vector2();
+        chain.getVertex(0, first);
+        int count = chain.getVertexCount();
+        chain.getVertex(count - 1, vertex);
+        int distinct = vertex.epsilonEquals(first, EPSILON) ? count - 1 : count; // Box2D répète le premier sommet
+        if (distinct != 4) {
+            fail(mapPath, distinct + " sommets au lieu de 4");
+        }
+
+        float minX = Float.MAX_VALUE, minY = Float.MAX_VALUE, maxX = -Float.MAX_VALUE, maxY = -Float.MAX_VALUE;
+        for (int i = 0; i < count; i++) {
+            chain.getVertex(i, vertex);
+            minX = Math.min(minX, vertex.x);
+            minY = Math.min(minY, vertex.y);
+            maxX = Math.max(maxX, vertex.x);
+            maxY = Math.max(maxY, vertex.y);
+        }
+        if (Math.abs(minX) > EPSILON || Math.abs(minY) > EPSILON
+            || Math.abs(maxX - width) > EPSILON || Math.abs(maxY - top) > EPSILON) {
+            fail(mapPath, "bordure de (" + minX + ", " + minY + ") à (" + maxX + ", " + maxY + ") au lieu de (0, 0) à ("
+                + width + ", " + top + ")");
+        }
+
+        CollisionCategory category = CollisionCategory.of(loop);
+        if (category != CollisionCategory.TERRAIN || !category.collidesWith(CollisionCategory.PLAYER_BODY)) {
+            fail(mapPath, "la bordure n'entre pas en contact avec le joueur (catégorie " + category + ")");
+        }
+    }
+
+    /**
+     * Pousse le joueur contre le bord gauche puis contre le bord droit, et vérifie qu'il reste dans la carte.
+     */
+    private static void checkPlayerStaysInside(String mapPath, LevelSimulation simulation, float width) {
+        Body body = simulation.getPlayer().getBody();
+        for (int direction = -1; direction <= 1; direction += 2) {
+            for (int step = 0; step < PUSH_STEPS; step++) {
+                body.setLinearVelocity(direction * PUSH_SPEED, body.getLinearVelocity().y);
+                simulation.step(LevelSimulation.TIME_STEP);
+                float x = body.getPosition().x;
+                if (x < 0 || x > width) {
+                    fail(mapPath, "le joueur a traversé la bordure (x = " + x + ")");
+                }
+            }
+        }
+    }
+
+    private static void fail(String mapPath, String message) {
+        throw new IllegalStateException("Bordure de " + mapPath + " invalide : " + message + ".");
+    }
+}